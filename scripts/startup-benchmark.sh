@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# Measure time-to-first-request and resident memory for each startup variant of the service.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#
+# Variants: default (plain Boot jar), prod, fast-start (lazy init, no springdoc), cds (fast-start plus an AppCDS
+# archive on an exploded classpath) and native (only when build/native/nativeCompile/rqChallenge exists).
+# Results are appended to build/reports/startup/startup.csv.
+set -euo pipefail
+
+RUNS=${1:-3}
+PORT=${PORT:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT_DIR="$ROOT/build/reports/startup"
+CSV="$OUT_DIR/startup.csv"
+WORK="$ROOT/build/startup"
+JAR=$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -n 1 || true)
+NATIVE="$ROOT/build/native/nativeCompile/rqChallenge"
+
+if [ -z "$JAR" ]; then
+    echo "No Boot jar found, run ./gradlew bootJar first." >&2
+    exit 1
+fi
+
+mkdir -p "$OUT_DIR" "$WORK"
+[ -f "$CSV" ] || echo "timestamp,variant,run,time_to_first_request_ms,rss_kb" > "$CSV"
+
+now_ms() {
+    date +%s%3N
+}
+
+# Explode the Boot jar and build an AppCDS archive from a training run (JDK 11 style class list dump)
+prepare_cds() {
+    rm -rf "$WORK/exploded" && mkdir -p "$WORK/exploded"
+    (
+        cd "$WORK/exploded"
+        jar -xf "$JAR"
+        jar -cf app.jar -C BOOT-INF/classes .
+        mv BOOT-INF/lib lib
+        java -XX:DumpLoadedClassList=classes.lst -Dspring.profiles.active=prod,fast-start,cds-training \
+            -Dserver.port="$PORT" -cp "app.jar:lib/*" com.example.rqchallenge.RqChallengeApplication > /dev/null
+        java -Xshare:dump -XX:SharedClassListFile=classes.lst -XX:SharedArchiveFile=app-cds.jsa \
+            -cp "app.jar:lib/*" > /dev/null
+    )
+}
+
+# Start a variant, wait for the first successful request and record the elapsed time and RSS
+measure() {
+    local variant=$1 run=$2
+    shift 2
+
+    local start pid ttfr rss
+    start=$(now_ms)
+    "$@" > "$WORK/$variant.log" 2>&1 &
+    pid=$!
+
+    until curl -sf "http://localhost:$PORT/v1/health" > /dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$variant exited before serving a request, see $WORK/$variant.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    ttfr=$(( $(now_ms) - start ))
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$variant,$run,$ttfr,$rss" >> "$CSV"
+    printf "%-12s run %d: first request after %6d ms, RSS %8d KB\n" "$variant" "$run" "$ttfr" "$rss"
+}
+
+prepare_cds
+
+for run in $(seq 1 "$RUNS"); do
+    measure default "$run" java -jar "$JAR" --server.port="$PORT"
+    measure prod "$run" java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod
+    measure fast-start "$run" java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod,fast-start
+    measure cds "$run" java -XX:SharedArchiveFile="$WORK/exploded/app-cds.jsa" -Xshare:auto \
+        -cp "$WORK/exploded/app.jar:$WORK/exploded/lib/*" com.example.rqchallenge.RqChallengeApplication \
+        --server.port="$PORT" --spring.profiles.active=prod,fast-start
+    if [ -x "$NATIVE" ]; then
+        measure native "$run" "$NATIVE" --server.port="$PORT" --spring.profiles.active=prod,fast-start
+    fi
+done
+
+echo "Results appended to $CSV"
@@ -0,0 +1,86 @@
+package com.example.rqchallenge.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the relative change in score and normalized allocation between a saved JMH baseline and a new run.
+ *
+ * Usage: BaselineComparison baseline.json current.json
+ */
+public final class BaselineComparison {
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json>");
+            System.exit(1);
+        }
+
+        File baselineFile = new File(args[0]);
+        if (!baselineFile.exists()) {
+            System.err.println("No baseline found at " + baselineFile + ". Run jmhSaveBaseline first.");
+            System.exit(1);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile));
+        Map<String, JsonNode> current = index(objectMapper.readTree(new File(args[1])));
+
+        System.out.printf("%-90s %14s %14s %9s %12s %12s%n",
+                "Benchmark", "Baseline", "Current", "Change", "B/op base", "B/op now");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double currentScore = after.path("primaryMetric").path("score").asDouble();
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s %12s %12.0f%n",
+                        entry.getKey(), "-", currentScore, "new", "-", allocationPerOp(after));
+                continue;
+            }
+
+            double baselineScore = before.path("primaryMetric").path("score").asDouble();
+            double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %12.0f %12.0f  %s%n",
+                    entry.getKey(), baselineScore, currentScore, change,
+                    allocationPerOp(before), allocationPerOp(after), unit);
+        }
+    }
+
+    // Key each result by benchmark name plus its parameters so parameterized runs line up
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+
+    // The GC profiler reports "gc.alloc.rate.norm" (prefixed with a middle dot on older JMH versions)
+    private static double allocationPerOp(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith("gc.alloc.rate.norm")) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+}
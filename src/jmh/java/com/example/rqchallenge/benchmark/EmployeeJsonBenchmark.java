@@ -0,0 +1,98 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeApiResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization of the upstream /employees payload and of a single Employee, with reflective or
+ * Blackbird-generated property accessors, through the ObjectMapper per call or through a reader and writer
+ * created once for the type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<EmployeeApiResponse<List<Employee>>> EMPLOYEE_LIST_RESPONSE =
+            new TypeReference<EmployeeApiResponse<List<Employee>>>() {};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"reflection", "blackbird"})
+    private String accessors;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+    private EmployeeApiResponse<List<Employee>> response;
+    private byte[] responseJson;
+    private Employee employee;
+    private byte[] employeeJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        if ("blackbird".equals(accessors)) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        responseReader = objectMapper.readerFor(EMPLOYEE_LIST_RESPONSE);
+        responseWriter = objectMapper.writerFor(EMPLOYEE_LIST_RESPONSE);
+        List<Employee> employees = EmployeeDataset.generate(size, 42L);
+        response = new EmployeeApiResponse<>("success", employees);
+        responseJson = objectMapper.writeValueAsBytes(response);
+        employee = employees.get(0);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public EmployeeApiResponse<List<Employee>> deserializeEmployeeList() throws IOException {
+        return objectMapper.readValue(responseJson, EMPLOYEE_LIST_RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeListWithWriter() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public EmployeeApiResponse<List<Employee>> deserializeEmployeeListWithReader() throws IOException {
+        return responseReader.readValue(responseJson);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.EmployeeChangeFeed;
+import com.example.rqchallenge.service.EmployeeService;
+import com.example.rqchallenge.service.NegativeLookupCache;
+import com.example.rqchallenge.service.ReplicaPeers;
+import com.example.rqchallenge.service.UpstreamShards;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot read paths of EmployeeService over generated datasets of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    // "son" matches many generated names, "Tiger Nixon" a handful, "zzz" none
+    @Param({"son", "Tiger Nixon", "zzz"})
+    private String searchString;
+
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> employees = EmployeeDataset.generate(size, 42L);
+        employeeService = new EmployeeService(new InMemoryRestTemplate(employees), UpstreamShards.single("http://localhost/api/v1"),
+                ReplicaPeers.none(), new EmployeeChangeFeed(4096, 256, 4, 1000), new NegativeLookupCache(30000, 10000, new SimpleMeterRegistry()), 300000);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public int getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+}
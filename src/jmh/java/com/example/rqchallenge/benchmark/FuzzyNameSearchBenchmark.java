@@ -0,0 +1,82 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.FuzzyNameIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fuzzy name search through the BK-tree index against a brute-force Levenshtein scan of every employee name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyNameSearchBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    // A rare misspelled surname, and a misspelled full name made of common words
+    @Param({"fitzpatrik", "jmes smtih"})
+    private String query;
+
+    @Param({"1", "2"})
+    private int maxDistance;
+
+    private List<Employee> employees;
+    private FuzzyNameIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = EmployeeDataset.generate(size, 42L);
+        index = FuzzyNameIndex.build(employees);
+    }
+
+    @Benchmark
+    public List<Employee> bkTree() {
+        return index.search(query, maxDistance);
+    }
+
+    @Benchmark
+    public List<Employee> bruteForce() {
+        String[] queryWords = query.split(" ");
+        List<int[]> matches = new ArrayList<>();
+        for (int position = 0; position < employees.size(); position++) {
+            String[] nameWords = employees.get(position).getEmployeeName().toLowerCase().split(" ");
+            int total = 0;
+            for (String queryWord : queryWords) {
+                int best = Integer.MAX_VALUE;
+                for (String nameWord : nameWords) {
+                    best = Math.min(best, FuzzyNameIndex.editDistance(queryWord, nameWord));
+                }
+                if (best > maxDistance) {
+                    total = -1;
+                    break;
+                }
+                total += best;
+            }
+            if (total >= 0) {
+                matches.add(new int[]{total, position});
+            }
+        }
+
+        matches.sort(Comparator.<int[]>comparingInt(match -> match[0]).thenComparingInt(match -> match[1]));
+        List<Employee> result = new ArrayList<>(matches.size());
+        matches.forEach(match -> result.add(employees.get(match[1])));
+        return result;
+    }
+}
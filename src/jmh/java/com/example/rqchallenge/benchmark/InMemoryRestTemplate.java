@@ -0,0 +1,32 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeApiResponse;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * RestTemplate that answers every exchange with a fixed employee list, so service benchmarks measure
+ * the in-memory work in EmployeeService instead of network time.
+ */
+public class InMemoryRestTemplate extends RestTemplate {
+
+    private final EmployeeApiResponse<List<Employee>> response;
+
+    public InMemoryRestTemplate(List<Employee> employees) {
+        this.response = new EmployeeApiResponse<>("success", employees);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                          ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        return (ResponseEntity<T>) ResponseEntity.ok(response);
+    }
+}
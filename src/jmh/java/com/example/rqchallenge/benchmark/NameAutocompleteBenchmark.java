@@ -0,0 +1,57 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.NameSuggestion;
+import com.example.rqchallenge.service.EmployeeIndex;
+import com.example.rqchallenge.service.NameAutocompleteIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead lookups against the sorted token index, and the cost of building it for a new snapshot version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameAutocompleteBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    // A common first keystroke, a longer prefix and a miss
+    @Param({"j", "wil", "zzz"})
+    private String prefix;
+
+    private EmployeeIndex snapshot;
+    private NameAutocompleteIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = new EmployeeIndex();
+        snapshot.rebuild(EmployeeDataset.generate(size, 42L), false);
+        index = NameAutocompleteIndex.build(snapshot);
+    }
+
+    @Benchmark
+    public List<NameSuggestion> suggest() {
+        return index.suggest(prefix, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NameAutocompleteIndex build() {
+        return NameAutocompleteIndex.build(snapshot);
+    }
+}
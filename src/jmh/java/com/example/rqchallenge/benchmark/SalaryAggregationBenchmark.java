@@ -0,0 +1,69 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.SalaryAggregate;
+import com.example.rqchallenge.service.EmployeeColumns;
+import com.example.rqchallenge.service.EmployeeIndex;
+import com.example.rqchallenge.service.SalaryAggregation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the bucketed salary aggregation with the number of fork-join workers. Compare the scores across
+ * the parallelism values; 1 is the single-threaded baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryAggregationBenchmark {
+
+    private static final int[] AGE_BOUNDARIES = {20, 30, 40, 50, 60};
+    private static final int[] SALARY_BOUNDARIES = {50_000, 100_000, 150_000, 200_000, 300_000, 500_000};
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private EmployeeColumns columns;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> employees = EmployeeDataset.generate(size, 42L);
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(employees, false);
+        columns = index.getColumns();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<SalaryAggregate> byAge() {
+        return SalaryAggregation.aggregate(columns.getAges(), columns.getSalaries(), AGE_BOUNDARIES, pool);
+    }
+
+    @Benchmark
+    public List<SalaryAggregate> bySalary() {
+        return SalaryAggregation.aggregate(columns.getSalaries(), columns.getSalaries(), SALARY_BOUNDARIES, pool);
+    }
+}
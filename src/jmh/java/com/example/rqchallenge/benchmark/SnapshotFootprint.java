@@ -0,0 +1,50 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.EmployeeIndex;
+
+import java.util.List;
+
+/**
+ * Prints the heap retained by a generated employee list as parsed from JSON and by an employee snapshot built
+ * from it, before and after an incremental refresh with a freshly parsed copy of the same list.
+ *
+ * Usage: SnapshotFootprint [employees]
+ */
+public final class SnapshotFootprint {
+
+    private SnapshotFootprint() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        long baseline = usedHeap();
+        List<Employee> employees = EmployeeDataset.generate(size, 42L);
+        long parsed = usedHeap() - baseline;
+
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(employees, false);
+        employees = null;
+        long loaded = usedHeap() - baseline;
+
+        index.apply(index.diff(EmployeeDataset.generate(size, 42L)));
+        long refreshed = usedHeap() - baseline;
+
+        System.out.printf("%,d employees%n", index.size());
+        System.out.printf("%-32s %10.1f MB %8d B/employee%n", "Parsed List<Employee>", parsed / 1e6, parsed / size);
+        System.out.printf("%-32s %10.1f MB %8d B/employee%n", "EmployeeIndex", loaded / 1e6, loaded / size);
+        System.out.printf("%-32s %10.1f MB %8d B/employee%n", "EmployeeIndex after refresh", refreshed / 1e6, refreshed / size);
+    }
+
+    // Heap in use once repeated full collections have cleared everything unreachable
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.EmployeeIndex;
+import com.example.rqchallenge.service.EmployeeSnapshotDiff;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a snapshot refresh: applying a keyed diff to the index versus rebuilding it from the full list.
+ * Each invocation flips the index between two snapshots that differ by the configured change rate, split
+ * evenly between removals, additions and salary updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotRefreshBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    // Fraction of employees that differ between the two snapshots
+    @Param({"0.001"})
+    private double changeRate;
+
+    private List<Employee> original;
+    private List<Employee> changed;
+    private EmployeeIndex index;
+    private boolean onChanged;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int changesPerKind = Math.max(1, (int) (size * changeRate / 3));
+        List<Employee> generated = EmployeeDataset.generate(size + changesPerKind, 42L);
+        original = new ArrayList<>(generated.subList(0, size));
+
+        // Spread removals and updates across the list instead of clustering them at one end
+        int stride = size / (changesPerKind * 2);
+        changed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = original.get(i);
+            if (i % stride == 0 && i / stride < changesPerKind * 2) {
+                if ((i / stride) % 2 == 0) {
+                    continue;  // Removed
+                }
+                employee = new Employee(employee.getId(), employee.getEmployeeName(),
+                        String.valueOf(Integer.parseInt(employee.getEmployeeSalary()) + 1000),
+                        employee.getEmployeeAge(), employee.getProfileImage());
+            }
+            changed.add(employee);
+        }
+        changed.addAll(generated.subList(size, generated.size()));
+
+        index = new EmployeeIndex();
+        index.rebuild(original, false);
+        onChanged = false;
+    }
+
+    @Benchmark
+    public EmployeeSnapshotDiff incrementalRefresh() {
+        EmployeeSnapshotDiff diff = index.diff(next());
+        index.apply(diff);
+        return diff;
+    }
+
+    @Benchmark
+    public long fullRebuild() {
+        index.rebuild(next(), false);
+        return index.getVersion();
+    }
+
+    private List<Employee> next() {
+        onChanged = !onChanged;
+        return onChanged ? changed : original;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.rqchallenge.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency limit for one endpoint, so a slow endpoint can only tie up its own share of request threads.
+ *
+ * The limit adapts to latency with a gradient: each completed request compares its latency with the lowest
+ * recently observed one. While latency stays within the tolerance the limit creeps up by about its square root;
+ * once requests queue up somewhere downstream and latency grows, the limit shrinks in proportion.
+ */
+public class AdaptiveBulkhead {
+
+    // The no-load latency is re-learned periodically so a lucky early sample does not pin the limit down forever
+    private static final int NO_LOAD_RESET_SAMPLES = 1000;
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final double latencyTolerance;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long noLoadLatencyNanos = Long.MAX_VALUE;
+    private int samples;
+
+    public AdaptiveBulkhead(String name, int minLimit, int maxLimit, int queueSize, double latencyTolerance) {
+        this.name = name;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.queueSize = queueSize;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * Take a permit, waiting up to maxWaitNanos in the queue if the limit is reached and the queue has room.
+     *
+     * @return Whether a permit was taken; if so it must be given back with release.
+     */
+    public synchronized boolean tryAcquire(long maxWaitNanos) throws InterruptedException {
+        if (inFlight < (int) limit) {
+            inFlight++;
+            return true;
+        }
+        if (maxWaitNanos <= 0 || queued >= queueSize) {
+            return false;
+        }
+
+        queued++;
+        try {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            queued--;
+        }
+    }
+
+    // Give back a permit and let the request's latency adjust the limit
+    public synchronized void release(long latencyNanos) {
+        inFlight--;
+        adjustLimit(Math.max(1, latencyNanos));
+        notifyAll();
+    }
+
+    private void adjustLimit(long latencyNanos) {
+        if (++samples >= NO_LOAD_RESET_SAMPLES) {
+            samples = 0;
+            noLoadLatencyNanos = latencyNanos;
+        } else if (latencyNanos < noLoadLatencyNanos) {
+            noLoadLatencyNanos = latencyNanos;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, latencyTolerance * noLoadLatencyNanos / latencyNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        // Growing the limit is only justified when it is actually in use
+        if (newLimit > limit && inFlight < limit / 2) {
+            newLimit = limit;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queued;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.rqchallenge.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits each request to the bulkhead of its controller method, or answers 503 with Retry-After when the
+ * endpoint is saturated, before any request thread time is spent on it. A handler that completes asynchronously
+ * keeps its permit until the response is complete, so the limit bounds the requests in progress, not the request
+ * threads they happen to hold.
+ *
+ * Per endpoint it publishes {@code admission.limit}, {@code admission.in-flight}, {@code admission.queued} and
+ * {@code admission.rejected}, tagged with the controller method name as {@code handler}.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final String ADMISSION_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".admission";
+
+    private final AdmissionControlProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was already admitted
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String name = ((HandlerMethod) handler).getMethod().getName();
+        if (properties.getExcluded().contains(name)) {
+            return true;
+        }
+
+        AdaptiveBulkhead bulkhead = bulkheads.computeIfAbsent(name, this::createBulkhead);
+        boolean admitted;
+        try {
+            admitted = bulkhead.tryAcquire(properties.getQueueTimeout().toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            logger.debug("Rejecting request to {}: {} in flight at a limit of {}.", name, bulkhead.getInFlight(), bulkhead.getLimit());
+            meterRegistry.counter("admission.rejected", "handler", name).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.getRetryAfter().getSeconds())));
+            return false;
+        }
+        request.setAttribute(ADMISSION_ATTRIBUTE, new Admission(bulkhead, System.nanoTime()));
+        return true;
+    }
+
+    // The permit is normally returned by afterCompletion of the asynchronous dispatch; the listener covers an
+    // asynchronous request that ends without one, e.g. when the client goes away
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Admission admission = (Admission) request.getAttribute(ADMISSION_ATTRIBUTE);
+        if (admission != null && request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    admission.release();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Admission admission = (Admission) request.getAttribute(ADMISSION_ATTRIBUTE);
+        if (admission != null) {
+            request.removeAttribute(ADMISSION_ATTRIBUTE);
+            admission.release();
+        }
+    }
+
+    private AdaptiveBulkhead createBulkhead(String name) {
+        int maxLimit = properties.getLimits().getOrDefault(name, properties.getDefaultLimit());
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(name, properties.getMinLimit(), maxLimit,
+                properties.getQueueSize(), properties.getLatencyTolerance());
+
+        Gauge.builder("admission.limit", bulkhead, AdaptiveBulkhead::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("handler", name)
+                .register(meterRegistry);
+        Gauge.builder("admission.in-flight", bulkhead, AdaptiveBulkhead::getInFlight)
+                .description("Requests being handled")
+                .tag("handler", name)
+                .register(meterRegistry);
+        Gauge.builder("admission.queued", bulkhead, AdaptiveBulkhead::getQueued)
+                .description("Requests waiting for a permit")
+                .tag("handler", name)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    AdaptiveBulkhead getBulkhead(String name) {
+        return bulkheads.get(name);
+    }
+
+    private static class Admission {
+
+        private final AdaptiveBulkhead bulkhead;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Admission(AdaptiveBulkhead bulkhead, long startNanos) {
+            this.bulkhead = bulkhead;
+            this.startNanos = startNanos;
+        }
+
+        // Give the permit back once, with the time since admission as the latency sample
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release(System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
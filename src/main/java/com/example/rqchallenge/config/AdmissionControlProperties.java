@@ -0,0 +1,114 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint concurrency limits for inbound employee requests, bound from {@code admission.*}.
+ */
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound of the adaptive limit for handlers without an entry in limits
+    private int defaultLimit = 100;
+
+    // The adaptive limit never drops below this, so a slow period cannot shut an endpoint out entirely
+    private int minLimit = 4;
+
+    // Upper bound of the adaptive limit per controller method name, e.g. getEmployeeById
+    private Map<String, Integer> limits = new HashMap<>();
+
+    // Requests that may wait for a permit per endpoint; beyond that requests are rejected immediately
+    private int queueSize = 16;
+
+    private Duration queueTimeout = Duration.ofMillis(50);
+
+    // Latency above this multiple of the no-load latency shrinks the limit
+    private double latencyTolerance = 2.0;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // Controller methods never limited, e.g. long-lived event streams
+    private List<String> excluded = new ArrayList<>(List.of("streamEmployeeChanges"));
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public Map<String, Integer> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(Map<String, Integer> limits) {
+        this.limits = limits;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public Duration getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public void setQueueTimeout(Duration queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public List<String> getExcluded() {
+        return excluded;
+    }
+
+    public void setExcluded(List<String> excluded) {
+        this.excluded = excluded;
+    }
+}
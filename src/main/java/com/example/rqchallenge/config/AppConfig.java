@@ -1,34 +1,184 @@
 package com.example.rqchallenge.config;
 
+import com.example.rqchallenge.service.ReplicaPeers;
+import com.example.rqchallenge.service.UpstreamShards;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.opentelemetry.api.OpenTelemetry;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties({UpstreamHttpProperties.class, UpstreamShardProperties.class, ReplicaPeerProperties.class})
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory, UpstreamTimeouts upstreamTimeouts,
+                                     MeterRegistry meterRegistry, OpenTelemetry openTelemetry, ObjectMapper objectMapper) {
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        // The upstream only speaks JSON, so a single converter spares every exchange the search through the defaults
+        restTemplate.setMessageConverters(List.of(new UpstreamJsonConverter(objectMapper)));
+        restTemplate.getInterceptors().add(new TracingClientInterceptor(openTelemetry));
+        restTemplate.getInterceptors().add(new UpstreamDeadlineInterceptor(upstreamTimeouts, meterRegistry));
+        restTemplate.getInterceptors().add(new UpstreamExchangeRecorder());
+        return restTemplate;
+    }
+
+    // The upstream shards, or the single upstream at api.base.url if none are configured
+    @Bean
+    public UpstreamShards upstreamShards(UpstreamShardProperties properties, @Value("${api.base.url}") String baseUrl,
+                                         @Qualifier("shardExecutor") ThreadPoolTaskExecutor shardExecutor) {
+        if (properties.getShards().isEmpty()) {
+            return UpstreamShards.single(baseUrl);
+        }
+        List<UpstreamShards.Shard> shards = new ArrayList<>();
+        for (UpstreamShardProperties.Shard shard : properties.getShards()) {
+            shards.add(new UpstreamShards.Shard(shard.getUrl(),
+                    shard.getTimeout() != null ? shard.getTimeout() : properties.getTimeout()));
+        }
+        return new UpstreamShards(shards, properties.isAllowPartial(), shardExecutor);
+    }
+
+    // The replicas this one may load its snapshot from instead of the upstream, none unless employees.peers is enabled
+    @Bean
+    public ReplicaPeers replicaPeers(ReplicaPeerProperties properties) {
+        if (!properties.isEnabled()) {
+            return ReplicaPeers.none();
+        }
+        return new ReplicaPeers(properties.getMembers(), properties.getSelfUrl(), properties.getTimeout());
+    }
+
+    // One thread per shard, as fan-outs only happen under the snapshot's refresh lock; the queue leaves room for
+    // a call still running past its shard's timeout when the next refresh starts
+    @Bean
+    public ThreadPoolTaskExecutor shardExecutor(UpstreamShardProperties properties) {
+        int threads = Math.max(1, properties.getShards().size());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("upstream-shard-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        return executor;
+    }
+
+    // Per-call upstream timeouts from observed latency and the inbound request's remaining deadline
+    @Bean
+    public UpstreamTimeouts upstreamTimeouts(UpstreamHttpProperties properties) {
+        return new UpstreamTimeouts(properties.getMinAdaptiveTimeout(), properties.getReadTimeout(),
+                properties.getAdaptiveTimeoutPercentile(), properties.getAdaptiveTimeoutMultiplier());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "upstream.http.client", havingValue = "apache", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(UpstreamHttpProperties properties) {
         PoolingHttpClientConnectionManager connectionManager =
                 new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(50); // Maximum total connections
-        connectionManager.setDefaultMaxPerRoute(20); // Maximum connections per route
+        connectionManager.setMaxTotal(properties.getMaxTotal()); // Maximum total connections
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute()); // Maximum connections per route
+        connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
 
-        CloseableHttpClient httpClient = HttpClients.custom()
-                .setConnectionManager(connectionManager)
+        for (UpstreamHttpProperties.Route route : properties.getRoutes()) {
+            connectionManager.setMaxPerRoute(toHttpRoute(route.getUrl()), route.getMaxConnections());
+        }
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "upstream.http.client", havingValue = "apache", matchIfMissing = true)
+    public CloseableHttpClient upstreamHttpClient(PoolingHttpClientConnectionManager upstreamConnectionManager,
+                                                  UpstreamHttpProperties properties) {
+        RequestConfig requestConfig = upstreamRequestConfig(properties);
+
+        long defaultKeepAlive = properties.getDefaultKeepAlive().toMillis();
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    // Honour the upstream Keep-Alive header, otherwise fall back to the configured default
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? keepAlive : defaultKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(properties.getIdleEvictionTimeout().toMillis(), TimeUnit.MILLISECONDS)
                 .build();
+    }
 
-        HttpComponentsClientHttpRequestFactory requestFactory =
-                new HttpComponentsClientHttpRequestFactory(httpClient);
-        requestFactory.setConnectTimeout(3000); // Connection timeout in milliseconds
-        requestFactory.setReadTimeout(5000); // Read timeout in milliseconds
+    @Bean
+    @ConditionalOnProperty(name = "upstream.http.client", havingValue = "apache", matchIfMissing = true)
+    public ClientHttpRequestFactory upstreamRequestFactory(CloseableHttpClient upstreamHttpClient,
+                                                           UpstreamHttpProperties properties,
+                                                           UpstreamTimeouts upstreamTimeouts) {
+        return new DeadlineAwareRequestFactory(upstreamHttpClient, upstreamRequestConfig(properties), upstreamTimeouts);
+    }
 
-        return new RestTemplate(requestFactory);
+    // Exposes httpcomponents.httpclient.pool.* gauges: max, leased and available connections and pending leases
+    @Bean
+    @ConditionalOnProperty(name = "upstream.http.client", havingValue = "apache", matchIfMissing = true)
+    public MeterBinder upstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(upstreamConnectionManager, "upstream");
     }
-}
 
+    // HTTP/2 client: one multiplexed connection per upstream host carries many concurrent requests
+    @Bean
+    @ConditionalOnProperty(name = "upstream.http.client", havingValue = "jdk-http2")
+    public ClientHttpRequestFactory upstreamHttp2RequestFactory(UpstreamHttpProperties properties,
+                                                                UpstreamTimeouts upstreamTimeouts) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        return new JdkHttpClientRequestFactory(httpClient, upstreamTimeouts);
+    }
+
+    // Client-wide timeouts; calls made for an inbound request get shorter ones from UpstreamTimeouts
+    private static RequestConfig upstreamRequestConfig(UpstreamHttpProperties properties) {
+        return RequestConfig.custom()
+                .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                .build();
+    }
+
+    // The client plans routes with an explicit port and a secure flag for https, so overrides must match that.
+    // Routes are per host, so a URL with a path is refused rather than silently never matching.
+    static HttpRoute toHttpRoute(String url) {
+        URI uri = URI.create(url);
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException("Upstream route URL needs a scheme and a host: " + url);
+        }
+        if (uri.getRawPath() != null && !uri.getRawPath().isEmpty() && !uri.getRawPath().equals("/")) {
+            throw new IllegalArgumentException("Upstream route URL must not have a path: " + url);
+        }
+        String scheme = uri.getScheme().toLowerCase();
+        boolean secure = "https".equals(scheme);
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getHost(), port, scheme), null, secure);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Executors for asynchronous request handling. Handlers that block on the upstream hand their work to
+ * {@code upstreamExecutor} and return a CompletableFuture, so the Tomcat thread goes back to the pool during
+ * the upstream call. Everything else Spring MVC runs asynchronously, such as streamed responses, uses
+ * {@code inMemoryExecutor}.
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig implements WebMvcConfigurer {
+
+    public static final String UPSTREAM_EXECUTOR = "upstreamExecutor";
+
+    private final AsyncExecutorProperties properties;
+
+    public AsyncConfig(AsyncExecutorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(UPSTREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor upstreamExecutor() {
+        return executor("upstream-", properties.getUpstream());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor inMemoryExecutor() {
+        return executor("in-memory-", properties.getInMemory());
+    }
+
+    // Replaces the executor Spring Boot would otherwise provide, which backs off once any executor bean exists
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(inMemoryExecutor());
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, AsyncExecutorProperties.Pool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        // Let requests already handed over finish during a graceful shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Thread pools for asynchronous request handling, bound from {@code executors.*}. Upstream-bound handlers and
+ * in-memory work (streamed responses) get separate pools, so a slow upstream cannot starve the other.
+ */
+@ConfigurationProperties(prefix = "executors")
+public class AsyncExecutorProperties {
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    // Handlers that call the upstream: getEmployeeById, createEmployee and deleteEmployeeById
+    private Pool upstream = new Pool(20, 40, 100);
+
+    // Work answered from the snapshot that runs off the request thread, e.g. writing a streamed query result
+    private Pool inMemory = new Pool(PROCESSORS, 2 * PROCESSORS, 500);
+
+    // Getters and Setters
+
+    public Pool getUpstream() {
+        return upstream;
+    }
+
+    public void setUpstream(Pool upstream) {
+        this.upstream = upstream;
+    }
+
+    public Pool getInMemory() {
+        return inMemory;
+    }
+
+    public void setInMemory(Pool inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public static class Pool {
+
+        // Threads kept alive while idle
+        private int coreSize;
+
+        // Threads started once the queue is full; further tasks are rejected
+        private int maxSize;
+
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        Pool(int coreSize, int maxSize, int queueCapacity) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
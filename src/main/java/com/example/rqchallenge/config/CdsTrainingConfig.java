@@ -0,0 +1,26 @@
+package com.example.rqchallenge.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Active only with the "cds-training" profile: shuts the application down as soon as it is ready, so a training
+ * run with -XX:DumpLoadedClassList records the classes loaded during startup for the AppCDS archive.
+ */
+@Configuration
+@Profile("cds-training")
+public class CdsTrainingConfig implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdsTrainingConfig.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        logger.info("CDS training run complete, exiting.");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.rqchallenge.config;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+
+/**
+ * Pooled Apache client factory that gives each call the timeout from {@link UpstreamTimeouts} instead of the
+ * client-wide one. The socket timeout bounds each wait for data; connecting and leasing a pooled connection are
+ * bounded by the same value when it is shorter than their configured timeouts.
+ */
+public class DeadlineAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final RequestConfig defaultRequestConfig;
+    private final UpstreamTimeouts timeouts;
+
+    public DeadlineAwareRequestFactory(HttpClient httpClient, RequestConfig defaultRequestConfig,
+                                       UpstreamTimeouts timeouts) {
+        super(httpClient);
+        this.defaultRequestConfig = defaultRequestConfig;
+        this.timeouts = timeouts;
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        int timeout = (int) Math.min(Integer.MAX_VALUE, timeouts.timeoutFor(httpMethod, uri).toMillis());
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.copy(defaultRequestConfig)
+                .setSocketTimeout(timeout)
+                .setConnectTimeout(shorter(defaultRequestConfig.getConnectTimeout(), timeout))
+                .setConnectionRequestTimeout(shorter(defaultRequestConfig.getConnectionRequestTimeout(), timeout))
+                .build());
+        return context;
+    }
+
+    // Apache treats zero or less as no timeout
+    private static int shorter(int configured, int timeout) {
+        return configured > 0 ? Math.min(configured, timeout) : timeout;
+    }
+}
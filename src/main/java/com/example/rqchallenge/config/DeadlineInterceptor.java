@@ -0,0 +1,63 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+/**
+ * Starts the {@link RequestDeadline} of each employee request: the client's budget from the deadline header,
+ * capped by the configured maximum, or otherwise the default of the handler.
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineInterceptor.class);
+
+    private final DeadlineProperties properties;
+
+    public DeadlineInterceptor(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        RequestDeadline.start(budget(request, ((HandlerMethod) handler).getMethod().getName()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestDeadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestDeadline.clear();
+    }
+
+    private Duration budget(HttpServletRequest request, String handlerName) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    Duration budget = Duration.ofMillis(millis);
+                    return budget.compareTo(properties.getMaxTimeout()) < 0 ? budget : properties.getMaxTimeout();
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the handler's default
+            }
+            logger.debug("Ignoring invalid {} header '{}'.", properties.getHeader(), header);
+        }
+        return properties.getDefaults().getOrDefault(handlerName, properties.getDefaultTimeout());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time budget of inbound employee requests, bound from {@code deadline.*}.
+ */
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineProperties {
+
+    // Request header carrying the client's budget in milliseconds
+    private String header = "X-Request-Timeout-Ms";
+
+    // Budget of requests without the header, for handlers without an entry in defaults
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    // Budget per controller method name, e.g. getEmployeeById
+    private Map<String, Duration> defaults = new HashMap<>();
+
+    // Upper bound of a budget asked for in the header
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    // Getters and Setters
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Map<String, Duration> getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Map<String, Duration> defaults) {
+        this.defaults = defaults;
+    }
+
+    public Duration getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    public void setMaxTimeout(Duration maxTimeout) {
+        this.maxTimeout = maxTimeout;
+    }
+}
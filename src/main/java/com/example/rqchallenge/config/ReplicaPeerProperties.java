@@ -0,0 +1,62 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replicas sharing one employee snapshot, bound from {@code employees.peers.*}. Disabled by default, in which case
+ * every replica loads the snapshot from the upstream itself.
+ */
+@ConfigurationProperties(prefix = "employees.peers")
+public class ReplicaPeerProperties {
+
+    // Whether this replica serves its snapshot to other replicas and loads it from those ranked ahead of it
+    private boolean enabled = false;
+
+    // Base URLs of every replica, e.g. http://employee-api-1:8080, in the same order on each of them; the first
+    // reachable one loads from the upstream
+    private List<String> members = new ArrayList<>();
+
+    // Base URL of this replica as it appears in members
+    private String selfUrl;
+
+    // Time a replica ahead gets to return its snapshot before the next one is asked
+    private Duration timeout = Duration.ofSeconds(10);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<String> members) {
+        this.members = members;
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public void setSelfUrl(String selfUrl) {
+        this.selfUrl = selfUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Hands the {@link RequestDeadline} and the OpenTelemetry context of the submitting thread over to the thread
+ * that runs the task, so upstream calls made there keep the request's time budget and belong to its trace.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Long deadline = RequestDeadline.current();
+        Context context = Context.current();
+        return () -> {
+            Long previous = RequestDeadline.current();
+            RequestDeadline.restore(deadline);
+            try (Scope ignored = context.makeCurrent()) {
+                runnable.run();
+            } finally {
+                RequestDeadline.restore(previous);
+            }
+        };
+    }
+}
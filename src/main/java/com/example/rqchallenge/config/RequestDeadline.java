@@ -0,0 +1,43 @@
+package com.example.rqchallenge.config;
+
+import java.time.Duration;
+
+/**
+ * Deadline of the inbound request being handled on the current thread. Every upstream call made for the request
+ * is given at most the time left, so chained calls share one budget instead of each getting the full timeout.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration budget) {
+        DEADLINE.set(System.nanoTime() + budget.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    // The deadline of the current thread as a System.nanoTime value, or null; for handing it to another thread
+    public static Long current() {
+        return DEADLINE.get();
+    }
+
+    // Make a deadline taken with current() the deadline of this thread, or clear it if null
+    public static void restore(Long deadline) {
+        if (deadline != null) {
+            DEADLINE.set(deadline);
+        } else {
+            DEADLINE.remove();
+        }
+    }
+
+    // Time left before the deadline, negative once it has passed, or null if the thread has no deadline
+    public static Duration remaining() {
+        Long deadline = DEADLINE.get();
+        return deadline != null ? Duration.ofNanos(deadline - System.nanoTime()) : null;
+    }
+}
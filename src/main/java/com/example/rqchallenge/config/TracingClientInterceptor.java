@@ -0,0 +1,57 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Client span per upstream exchange, e.g. {@code GET /api/v1/employee/{id}}, with the W3C {@code traceparent}
+ * header added to the request so the upstream can join the trace.
+ */
+public class TracingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    public TracingClientInterceptor(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(TracingConfig.INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Span span = tracer.spanBuilder(UpstreamTimeouts.operation(request.getMethod(), request.getURI()))
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("http.method", request.getMethodValue())
+                .setAttribute("http.url", request.getURI().toString())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            openTelemetry.getPropagators().getTextMapPropagator()
+                    .inject(Context.current(), request, (carrier, key, value) -> carrier.getHeaders().set(key, value));
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setAttribute("http.status_code", response.getRawStatusCode());
+            if (response.getRawStatusCode() >= 500) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.service.EmployeeService;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenTelemetry tracing: server spans per employee route (see {@link TracingInterceptor}), a span per
+ * EmployeeService call and client spans per upstream exchange carrying W3C trace context to the upstream.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    static final String INSTRUMENTATION_NAME = "com.example.rqchallenge";
+
+    @Bean
+    public SdkTracerProvider tracerProvider(TracingProperties properties) {
+        SdkTracerProviderBuilder builder = SdkTracerProvider.builder()
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(properties.getSamplingRatio())))
+                .setResource(Resource.getDefault().merge(Resource.create(
+                        Attributes.of(AttributeKey.stringKey("service.name"), properties.getServiceName()))));
+
+        SpanExporter exporter = spanExporter(properties.getExporter());
+        if (exporter != null) {
+            builder.addSpanProcessor(BatchSpanProcessor.builder(exporter)
+                    .setScheduleDelay(properties.getScheduleDelay())
+                    .setMaxExportBatchSize(properties.getMaxExportBatchSize())
+                    .setMaxQueueSize(properties.getMaxQueueSize())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public OpenTelemetry openTelemetry(TracingProperties properties, SdkTracerProvider tracerProvider) {
+        if (!properties.isEnabled()) {
+            return OpenTelemetry.noop();
+        }
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    // Static, so the post-processor does not force this configuration to be created before other beans
+    @Bean
+    public static BeanPostProcessor employeeServiceTracing(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof EmployeeService)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice(new TracingMethodInterceptor(
+                        openTelemetry.getObject().getTracer(INSTRUMENTATION_NAME), "EmployeeService"));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    private static SpanExporter spanExporter(String exporter) {
+        switch (exporter) {
+            case "none":
+                return null;
+            case "logging":
+                return LoggingSpanExporter.create();
+            case "otlp-json":
+                return OtlpJsonLoggingSpanExporter.create();
+            default:
+                throw new IllegalArgumentException("Unknown tracing exporter: " + exporter);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+
+/**
+ * Opens a server span per employee route, named after its mapping, e.g. {@code GET /v1/employees/{id}}, as a
+ * child of any W3C trace context sent by the client. Streaming responses keep the span open until the
+ * asynchronous dispatch that completes them.
+ */
+public class TracingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SPAN_ATTRIBUTE = TracingInterceptor.class.getName() + ".span";
+    private static final String SCOPE_ATTRIBUTE = TracingInterceptor.class.getName() + ".scope";
+
+    private static final TextMapGetter<HttpServletRequest> HEADERS = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(HttpServletRequest request) {
+            return Collections.list(request.getHeaderNames());
+        }
+
+        @Override
+        public String get(HttpServletRequest request, String key) {
+            return request != null ? request.getHeader(key) : null;
+        }
+    };
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    public TracingInterceptor(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+        this.tracer = openTelemetry.getTracer(TracingConfig.INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Span span = (Span) request.getAttribute(SPAN_ATTRIBUTE);
+        if (span == null && request.getDispatcherType() == DispatcherType.REQUEST) {
+            Context parent = openTelemetry.getPropagators().getTextMapPropagator()
+                    .extract(Context.root(), request, HEADERS);
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            span = tracer.spanBuilder(request.getMethod() + " " + (route != null ? route : request.getRequestURI()))
+                    .setParent(parent)
+                    .setSpanKind(SpanKind.SERVER)
+                    .setAttribute("http.method", request.getMethod())
+                    .setAttribute("http.route", route != null ? route.toString() : "")
+                    .setAttribute("http.target", request.getRequestURI())
+                    .setAttribute("code.function", ((HandlerMethod) handler).getMethod().getName())
+                    .startSpan();
+            request.setAttribute(SPAN_ATTRIBUTE, span);
+        }
+        // The asynchronous dispatch of a streaming response runs on another thread, so the span is made current again
+        if (span != null) {
+            request.setAttribute(SCOPE_ATTRIBUTE, span.makeCurrent());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        closeScope(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        closeScope(request);
+        Span span = (Span) request.getAttribute(SPAN_ATTRIBUTE);
+        if (span == null) {
+            return;
+        }
+        request.removeAttribute(SPAN_ATTRIBUTE);
+        span.setAttribute("http.status_code", response.getStatus());
+        if (ex != null) {
+            span.recordException(ex);
+        }
+        if (ex != null || response.getStatus() >= 500) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    private static void closeScope(HttpServletRequest request) {
+        Scope scope = (Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope != null) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
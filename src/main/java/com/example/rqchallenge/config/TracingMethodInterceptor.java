@@ -0,0 +1,38 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Wraps each call on a proxied bean in a span named after the class and method, e.g.
+ * {@code EmployeeService.getEmployeeById}.
+ */
+public class TracingMethodInterceptor implements MethodInterceptor {
+
+    private final Tracer tracer;
+    private final String className;
+
+    public TracingMethodInterceptor(Tracer tracer, String className) {
+        this.tracer = tracer;
+        this.className = className;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Span span = tracer.spanBuilder(className + "." + invocation.getMethod().getName()).startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
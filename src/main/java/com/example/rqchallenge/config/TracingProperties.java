@@ -0,0 +1,90 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * OpenTelemetry tracing settings, bound from {@code tracing.*}.
+ */
+@ConfigurationProperties(prefix = "tracing")
+public class TracingProperties {
+
+    private boolean enabled = true;
+
+    private String serviceName = "java-employee-challenge";
+
+    // Fraction of new traces sampled; requests arriving with a trace context follow the caller's decision
+    private double samplingRatio = 0.1;
+
+    /**
+     * Span exporter: "none" (spans are only propagated), "logging" (one log line per span) or "otlp-json"
+     * (OTLP JSON lines on the io.opentelemetry.exporter.logging.otlp logger, which can be routed to a file).
+     */
+    private String exporter = "none";
+
+    // Batch span processor settings
+    private Duration scheduleDelay = Duration.ofSeconds(5);
+
+    private int maxExportBatchSize = 512;
+
+    private int maxQueueSize = 2048;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public double getSamplingRatio() {
+        return samplingRatio;
+    }
+
+    public void setSamplingRatio(double samplingRatio) {
+        this.samplingRatio = samplingRatio;
+    }
+
+    public String getExporter() {
+        return exporter;
+    }
+
+    public void setExporter(String exporter) {
+        this.exporter = exporter;
+    }
+
+    public Duration getScheduleDelay() {
+        return scheduleDelay;
+    }
+
+    public void setScheduleDelay(Duration scheduleDelay) {
+        this.scheduleDelay = scheduleDelay;
+    }
+
+    public int getMaxExportBatchSize() {
+        return maxExportBatchSize;
+    }
+
+    public void setMaxExportBatchSize(int maxExportBatchSize) {
+        this.maxExportBatchSize = maxExportBatchSize;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.rqchallenge.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Refuses upstream calls once the inbound request's deadline has passed, and feeds call latencies into
+ * {@link UpstreamTimeouts}: every completed call, and every failed one unless the inbound request's deadline,
+ * rather than the adaptive timeout, cut it short. Refusals surface as connection errors, so the service falls back as it
+ * does for an unreachable upstream; they are counted as {@code upstream.deadline.exceeded}.
+ */
+public class UpstreamDeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamTimeouts timeouts;
+    private final Counter deadlineExceeded;
+
+    public UpstreamDeadlineInterceptor(UpstreamTimeouts timeouts, MeterRegistry meterRegistry) {
+        this.timeouts = timeouts;
+        this.deadlineExceeded = Counter.builder("upstream.deadline.exceeded")
+                .description("Upstream calls skipped because the inbound request's deadline had passed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining != null && (remaining.isNegative() || remaining.isZero())) {
+            deadlineExceeded.increment();
+            throw new IOException("Request deadline passed before calling " + request.getURI());
+        }
+
+        boolean boundByDeadline = timeouts.isBoundByDeadline(request.getMethod(), request.getURI());
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            // Timed out calls count too, so a slowing upstream pushes the timeout up instead of down; but one cut
+            // off by a client's own small budget says nothing about the upstream and would drag it down for everyone
+            if (!boundByDeadline) {
+                timeouts.record(request.getMethod(), request.getURI(), System.nanoTime() - start);
+            }
+            throw e;
+        }
+        timeouts.record(request.getMethod(), request.getURI(), System.nanoTime() - start);
+        return response;
+    }
+}
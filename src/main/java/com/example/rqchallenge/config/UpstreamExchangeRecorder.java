@@ -0,0 +1,124 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.jfr.UpstreamExchangeEvent;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Records each upstream exchange as an {@link UpstreamExchangeEvent} for Java Flight Recorder. When no recording
+ * has the event enabled, the exchange passes through untouched.
+ */
+public class UpstreamExchangeRecorder implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamExchangeEvent event = new UpstreamExchangeEvent();
+        if (!event.isEnabled()) {
+            return execution.execute(request, body);
+        }
+
+        long start = System.nanoTime();
+        event.begin();
+        event.method = request.getMethodValue();
+        event.urlTemplate = urlTemplate(request);
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            event.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            event.timeToHeaders = System.nanoTime() - start;
+            event.commit();
+            throw e;
+        }
+        event.status = response.getRawStatusCode();
+        event.timeToHeaders = System.nanoTime() - start;
+        return new RecordedResponse(response, event);
+    }
+
+    // Scheme, host and port as sent, path with ids folded as for the adaptive timeouts
+    private static String urlTemplate(HttpRequest request) {
+        String operation = UpstreamTimeouts.operation(request.getMethod(), request.getURI());
+        String path = operation.substring(operation.indexOf(' ') + 1);
+        return request.getURI().getScheme() + "://" + request.getURI().getRawAuthority() + path;
+    }
+
+    // Counts the body bytes read and commits the event when the caller closes the response
+    private static class RecordedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final UpstreamExchangeEvent event;
+        private InputStream body;
+        private boolean closed;
+
+        RecordedResponse(ClientHttpResponse response, UpstreamExchangeEvent event) {
+            this.response = response;
+            this.event = event;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return response.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(response.getBody()) {
+
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        if (b >= 0) {
+                            event.bytes++;
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int read = super.read(buffer, offset, length);
+                        if (read > 0) {
+                            event.bytes += read;
+                        }
+                        return read;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+            if (!closed) {
+                closed = true;
+                event.commit();
+            }
+        }
+    }
+}
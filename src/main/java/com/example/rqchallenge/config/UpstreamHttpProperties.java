@@ -0,0 +1,180 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP client settings for calls to the upstream employee API, bound from {@code upstream.http.*}.
+ */
+@ConfigurationProperties(prefix = "upstream.http")
+public class UpstreamHttpProperties {
+
+    /**
+     * Client implementation: "apache" (pooled HTTP/1.1) or "jdk-http2" (java.net.http, HTTP/2 multiplexed).
+     */
+    private String client = "apache";
+
+    private int maxTotal = 50;
+
+    private int maxPerRoute = 20;
+
+    // Per-route overrides of maxPerRoute
+    private List<Route> routes = new ArrayList<>();
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    // How long a request waits to lease a pooled connection before failing
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    // Idle time after which a pooled connection is re-validated before reuse
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    // Idle time after which a pooled connection is closed by the background evictor
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+
+    // Keep-alive applied when the upstream response has no Keep-Alive header
+    private Duration defaultKeepAlive = Duration.ofSeconds(20);
+
+    // Each kind of call times out after this multiple of this percentile of its recent latency, within the read timeout
+    private double adaptiveTimeoutPercentile = 0.99;
+
+    private double adaptiveTimeoutMultiplier = 2.0;
+
+    // Lower bound of the adaptive timeout, so a run of fast calls does not make the next ordinary one time out
+    private Duration minAdaptiveTimeout = Duration.ofMillis(250);
+
+    // Getters and Setters
+
+    public String getClient() {
+        return client;
+    }
+
+    public void setClient(String client) {
+        this.client = client;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public void setMaxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
+    public Duration getIdleEvictionTimeout() {
+        return idleEvictionTimeout;
+    }
+
+    public void setIdleEvictionTimeout(Duration idleEvictionTimeout) {
+        this.idleEvictionTimeout = idleEvictionTimeout;
+    }
+
+    public Duration getDefaultKeepAlive() {
+        return defaultKeepAlive;
+    }
+
+    public void setDefaultKeepAlive(Duration defaultKeepAlive) {
+        this.defaultKeepAlive = defaultKeepAlive;
+    }
+
+    public double getAdaptiveTimeoutPercentile() {
+        return adaptiveTimeoutPercentile;
+    }
+
+    public void setAdaptiveTimeoutPercentile(double adaptiveTimeoutPercentile) {
+        this.adaptiveTimeoutPercentile = adaptiveTimeoutPercentile;
+    }
+
+    public double getAdaptiveTimeoutMultiplier() {
+        return adaptiveTimeoutMultiplier;
+    }
+
+    public void setAdaptiveTimeoutMultiplier(double adaptiveTimeoutMultiplier) {
+        this.adaptiveTimeoutMultiplier = adaptiveTimeoutMultiplier;
+    }
+
+    public Duration getMinAdaptiveTimeout() {
+        return minAdaptiveTimeout;
+    }
+
+    public void setMinAdaptiveTimeout(Duration minAdaptiveTimeout) {
+        this.minAdaptiveTimeout = minAdaptiveTimeout;
+    }
+
+    public static class Route {
+
+        // Scheme, host and optional port, without a path, e.g. https://dummy.restapiexample.com
+        private String url;
+
+        private int maxConnections;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+    }
+}
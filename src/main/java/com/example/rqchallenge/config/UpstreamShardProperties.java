@@ -0,0 +1,74 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upstream instances the employee data is split across, bound from {@code upstream.sharding.*}. Without any
+ * shards listed, every call goes to {@code api.base.url}.
+ */
+@ConfigurationProperties(prefix = "upstream.sharding")
+public class UpstreamShardProperties {
+
+    // Shards in the order the shard function numbers them: an id maps to shard (id modulo the number of shards)
+    private List<Shard> shards = new ArrayList<>();
+
+    // Time each shard gets to return the full employee list, for shards without their own timeout
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // Whether a refresh may apply the lists of the shards that answered while others failed or timed out
+    private boolean allowPartial = true;
+
+    // Getters and Setters
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public boolean isAllowPartial() {
+        return allowPartial;
+    }
+
+    public void setAllowPartial(boolean allowPartial) {
+        this.allowPartial = allowPartial;
+    }
+
+    public static class Shard {
+
+        // Base URL of the shard's API, e.g. https://eu.example.com/api/v1
+        private String url;
+
+        private Duration timeout;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timeouts for upstream calls. Each kind of call, e.g. {@code GET /api/v1/employee/{id}}, waits a multiple of a
+ * high percentile of its own recent latency instead of the fixed read timeout, so calls that are already far
+ * slower than usual are given up early. The result is capped by the read timeout and by the time left before
+ * the inbound request's {@link RequestDeadline}.
+ */
+public class UpstreamTimeouts {
+
+    private static final int WINDOW = 512;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final long MIN_TIMEOUT_NANOS = 1_000_000L;
+
+    private final long minTimeoutNanos;
+    private final long maxTimeoutNanos;
+    private final double percentile;
+    private final double multiplier;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public UpstreamTimeouts(Duration minTimeout, Duration maxTimeout, double percentile, double multiplier) {
+        this.minTimeoutNanos = minTimeout.toNanos();
+        this.maxTimeoutNanos = maxTimeout.toNanos();
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+    }
+
+    // The timeout for a call about to be made on the current thread
+    public Duration timeoutFor(HttpMethod method, URI uri) {
+        long timeout = adaptiveTimeoutNanos(method, uri);
+
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining != null) {
+            timeout = Math.min(timeout, remaining.toNanos());
+        }
+        // Zero means no timeout at all to the HTTP clients, so a spent budget still gets a token wait
+        return Duration.ofNanos(Math.max(MIN_TIMEOUT_NANOS, timeout));
+    }
+
+    // Whether the current request's deadline, rather than the adaptive timeout, bounds a call about to be made
+    public boolean isBoundByDeadline(HttpMethod method, URI uri) {
+        Duration remaining = RequestDeadline.remaining();
+        return remaining != null && remaining.toNanos() < adaptiveTimeoutNanos(method, uri);
+    }
+
+    private long adaptiveTimeoutNanos(HttpMethod method, URI uri) {
+        LatencyWindow window = windows.get(operation(method, uri));
+        return window != null ? window.timeoutNanos : maxTimeoutNanos;
+    }
+
+    public void record(HttpMethod method, URI uri, long latencyNanos) {
+        windows.computeIfAbsent(operation(method, uri), key -> new LatencyWindow()).add(latencyNanos);
+    }
+
+    // Method and path with id-like segments (any containing a digit) folded, e.g. "GET /api/v1/employee/{id}"
+    static String operation(HttpMethod method, URI uri) {
+        String path = uri.getPath() != null ? uri.getPath() : "";
+        StringBuilder operation = new StringBuilder(method.name()).append(' ');
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            operation.append('/').append(segment.chars().anyMatch(Character::isDigit) && !segment.matches("v\\d+")
+                    ? "{id}" : segment);
+        }
+        return operation.toString();
+    }
+
+    // Ring buffer of the latest latencies of one operation
+    private class LatencyWindow {
+
+        private final long[] samples = new long[WINDOW];
+        private long count;
+        private volatile long timeoutNanos = maxTimeoutNanos;
+
+        synchronized void add(long latencyNanos) {
+            samples[(int) (count % WINDOW)] = latencyNanos;
+            count++;
+            if (count >= MIN_SAMPLES && count % RECOMPUTE_EVERY == 0) {
+                long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, WINDOW));
+                Arrays.sort(sorted);
+                long latency = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+                timeoutNanos = Math.max(minTimeoutNanos, Math.min(maxTimeoutNanos, (long) (latency * multiplier)));
+            }
+        }
+    }
+}
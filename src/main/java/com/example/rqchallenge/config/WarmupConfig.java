@@ -0,0 +1,114 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.service.EmployeeService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Active with {@code warmup.enabled=true}: before the application reports ready, loads the employee snapshot,
+ * builds its name indexes and sends synthetic requests to the hot employee routes over the local port, so the
+ * first real traffic finds warm caches and compiled code.
+ *
+ * Spring Boot only switches the readiness state to ACCEPTING_TRAFFIC once every ApplicationRunner has returned,
+ * so {@code /actuator/health/readiness} reports OUT_OF_SERVICE for as long as the warm-up runs.
+ */
+@Configuration
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupConfig.class);
+
+    private final WarmupProperties properties;
+    private final EmployeeService employeeService;
+    private final Environment environment;
+
+    public WarmupConfig(WarmupProperties properties, EmployeeService employeeService, Environment environment) {
+        this.properties = properties;
+        this.employeeService = employeeService;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+
+        try {
+            int employees = employeeService.preload();
+            logger.info("Warm-up loaded {} employees and built the name indexes in {} ms.", employees, elapsedMillis(start));
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up could not preload the employee snapshot.", e);
+        }
+
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            logger.info("No web server port, skipping warm-up requests.");
+            return;
+        }
+
+        long requestsStart = System.nanoTime();
+        int[] counts = sendRequests("http://localhost:" + port, deadline);
+        logger.info("Warm-up sent {} requests ({} failed) in {} ms, {} ms in total.",
+                counts[0], counts[1], elapsedMillis(requestsStart), elapsedMillis(start));
+    }
+
+    // Request every path once per round until the rounds or the time run out; returns {sent, failed}
+    private int[] sendRequests(String baseUrl, long deadline) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        int sent = 0;
+        int failed = 0;
+        for (int round = 0; round < properties.getRounds(); round++) {
+            for (String path : properties.getPaths()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.info("Warm-up stopped after {} of {} rounds, the maximum duration is reached.",
+                            round, properties.getRounds());
+                    return new int[] {sent, failed};
+                }
+
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Accept-Encoding", "gzip")
+                        .timeout(Duration.ofNanos(remaining))
+                        .GET()
+                        .build();
+                sent++;
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 500) {
+                        failed++;
+                    }
+                } catch (IOException e) {
+                    failed++;
+                    logger.debug("Warm-up request to {} failed: {}", path, e.toString());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new int[] {sent, failed};
+                }
+            }
+        }
+        return new int[] {sent, failed};
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
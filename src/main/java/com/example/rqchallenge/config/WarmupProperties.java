@@ -0,0 +1,67 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Start-up warm-up run before the application reports ready, bound from {@code warmup.*}.
+ */
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    // Times each route is requested; enough for the JIT to compile the hot paths of the handlers
+    private int rounds = 200;
+
+    // The warm-up stops after this long even if rounds remain, so a slow start cannot delay readiness for long
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    // Paths requested in every round; all are answered from the snapshot without calling the upstream
+    private List<String> paths = new ArrayList<>(List.of(
+            "/v1/employees",
+            "/v1/employees/search/son",
+            "/v1/employees/search/jon?fuzzy=true",
+            "/v1/employees/autocomplete?prefix=ma",
+            "/v1/employees/query?minSalary=100000&sort=-salary&limit=20",
+            "/v1/employees/aggregates",
+            "/v1/employees/highestSalary",
+            "/v1/employees/top10HighestEarningEmployeeNames"));
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.rqchallenge.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Binary payload formats for internal clients. Responses are JSON by default; clients sending
+ * {@code Accept: application/x-jackson-smile} or {@code Accept: application/cbor} get the same documents in a
+ * compact binary encoding, built from the application's Jackson settings.
+ *
+ * Also registers tracing, request deadlines and admission control for the employee endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties({AdmissionControlProperties.class, DeadlineProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlProperties admissionControl;
+    private final DeadlineProperties deadlines;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<OpenTelemetry> openTelemetry;
+
+    public WebConfig(AdmissionControlProperties admissionControl, DeadlineProperties deadlines,
+                     ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<OpenTelemetry> openTelemetry) {
+        this.admissionControl = admissionControl;
+        this.deadlines = deadlines;
+        this.meterRegistry = meterRegistry;
+        this.openTelemetry = openTelemetry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Outermost, so the server span covers admission and the handler
+        registry.addInterceptor(new TracingInterceptor(openTelemetry.getIfAvailable(OpenTelemetry::noop)))
+                .addPathPatterns("/v1/employees", "/v1/employees/**");
+        // Registered before admission control, so time spent queued for admission counts against the deadline
+        registry.addInterceptor(new DeadlineInterceptor(deadlines))
+                .addPathPatterns("/v1/employees", "/v1/employees/**");
+        if (admissionControl.isEnabled()) {
+            registry.addInterceptor(new AdmissionControlInterceptor(admissionControl,
+                            meterRegistry.getIfAvailable(SimpleMeterRegistry::new)))
+                    .addPathPatterns("/v1/employees", "/v1/employees/**");
+        }
+    }
+
+    // Generated accessors instead of reflection for every bean (de)serializer; picked up by the Boot ObjectMapper
+    // and by every builder derived from it, so it covers JSON, Smile and CBOR as well as upstream calls
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
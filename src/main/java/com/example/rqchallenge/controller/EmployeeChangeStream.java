@@ -0,0 +1,104 @@
+package com.example.rqchallenge.employees;
+
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+import com.example.rqchallenge.service.EmployeeChangeFeed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One Server-Sent Events subscription to the employee change feed. Replays the buffered events after the
+ * client's last sequence number, then forwards live events, skipping any the replay already sent. Live events
+ * are sent from the feed's delivery threads, never the publisher's; a client that falls too far behind is
+ * disconnected and resumes from its Last-Event-ID when it reconnects.
+ */
+class EmployeeChangeStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeStream.class);
+
+    // Sent when the client's sequence number is older than the buffer or ahead of this feed (it came from another
+    // process or replica); the client should re-read /v1/employees
+    static final String RESET_EVENT = "reset";
+
+    private final EmployeeChangeFeed changeFeed;
+    private final SseEmitter emitter;
+
+    private long lastSent;
+    private boolean closed;
+    private Runnable unsubscribe;
+
+    EmployeeChangeStream(EmployeeChangeFeed changeFeed, long timeoutMillis) {
+        this.changeFeed = changeFeed;
+        this.emitter = new SseEmitter(timeoutMillis);
+    }
+
+    SseEmitter open(long since) {
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+
+        // Subscribe before reading the backlog so no event falls between the two
+        unsubscribe = changeFeed.subscribe(this::onEvent, this::onOverflow);
+        synchronized (this) {
+            lastSent = since;
+            Optional<List<EmployeeChangeEvent>> backlog = changeFeed.eventsAfter(since);
+            if (backlog.isPresent()) {
+                backlog.get().forEach(this::send);
+            } else {
+                sendReset(changeFeed.getLatestSequence());
+            }
+        }
+        return emitter;
+    }
+
+    private synchronized void onEvent(EmployeeChangeEvent event) {
+        if (!closed && event.getSequence() > lastSent) {
+            send(event);
+        }
+    }
+
+    private synchronized void onOverflow() {
+        logger.info("Disconnecting an employee change stream that fell behind the feed at {}.", lastSent);
+        close();
+        emitter.complete();
+    }
+
+    private void send(EmployeeChangeEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getSequence()))
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+            lastSent = event.getSequence();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Closing employee change stream: {}", e.getMessage());
+            close();
+        }
+    }
+
+    private void sendReset(long latestSequence) {
+        logger.info("Change stream resumed from an unknown sequence, sending reset at {}.", latestSequence);
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(latestSequence))
+                    .name(RESET_EVENT)
+                    .data(latestSequence));
+            lastSent = latestSequence;
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    private synchronized void close() {
+        if (!closed) {
+            closed = true;
+            unsubscribe.run();
+        }
+    }
+}
@@ -1,21 +1,47 @@
 package com.example.rqchallenge.employees;
 
+import com.example.rqchallenge.config.AsyncConfig;
 import com.example.rqchallenge.model.Employee;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+import com.example.rqchallenge.model.EmployeeQuery;
+import com.example.rqchallenge.model.NameSuggestion;
+import com.example.rqchallenge.model.SalaryAggregate;
+import com.example.rqchallenge.service.EmployeeChangeFeed;
 import com.example.rqchallenge.service.EmployeeService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springdoc.api.annotations.ParameterObject;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/v1")
@@ -24,11 +50,30 @@ public class EmployeeController {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_FUZZY_DISTANCE = 3;
+    private static final int[] DEFAULT_AGE_BOUNDARIES = {20, 30, 40, 50, 60};
+    private static final int[] DEFAULT_SALARY_BOUNDARIES = {50_000, 100_000, 150_000, 200_000, 300_000, 500_000};
+
     private final EmployeeService employeeService;
+    private final EmployeeChangeFeed changeFeed;
+    private final long changeStreamTimeoutMillis;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+    private final Executor upstreamExecutor;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeChangeFeed changeFeed,
+                              @Value("${employees.changes.stream-timeout-ms:1800000}") long changeStreamTimeoutMillis,
+                              ObjectMapper objectMapper,
+                              @Qualifier(AsyncConfig.UPSTREAM_EXECUTOR) Executor upstreamExecutor) {
         this.employeeService = employeeService;
+        this.changeFeed = changeFeed;
+        this.changeStreamTimeoutMillis = changeStreamTimeoutMillis;
+        this.objectMapper = objectMapper;
+        this.upstreamExecutor = upstreamExecutor;
+        // Streamed results are flushed by the generator buffer, not after every employee
+        this.employeeWriter = objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
@@ -56,13 +101,20 @@ public class EmployeeController {
      * Search for employees by name.
      *
      * @param searchString The string to search for in employee names.
-     * @return ResponseEntity containing the list of matching employees.
+     * @param fuzzy        Whether to tolerate typos instead of requiring an exact substring match.
+     * @param maxDistance  In fuzzy mode, the number of character edits allowed per word of the search string
+     *                     (default 2, at most 3).
+     * @return ResponseEntity containing the list of matching employees, closest first in fuzzy mode.
      */
     @GetMapping("/employees/search/{searchString}")
-    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString) {
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString,
+                                                                   @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                                   @RequestParam(value = "maxDistance", defaultValue = "2") int maxDistance) {
         logger.info("Received request to search employees by name containing '{}'.", searchString);
 
-        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
+        List<Employee> employees = fuzzy
+                ? employeeService.getEmployeesByFuzzyNameSearch(searchString, Math.max(0, Math.min(maxDistance, MAX_FUZZY_DISTANCE)))
+                : employeeService.getEmployeesByNameSearch(searchString);
 
         if (employees.isEmpty()) {
             logger.warn("No employees found matching '{}'.", searchString);
@@ -74,24 +126,170 @@ public class EmployeeController {
     }
 
     /**
-     * Get an employee by ID.
+     * Suggest employee names for type-ahead.
+     *
+     * @param prefix The prefix typed so far, matched case insensitively against the start of each name word.
+     * @param limit  The maximum number of suggestions, 10 by default and at most 50.
+     * @return ResponseEntity containing the ids and names of matching employees, 204 if none match, or 400 if the
+     *         prefix is blank.
+     */
+    @GetMapping("/employees/autocomplete")
+    public ResponseEntity<List<NameSuggestion>> getNameSuggestions(@RequestParam("prefix") String prefix,
+                                                                   @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        // Called on every keystroke, so this path only logs at debug level
+        logger.debug("Received request to suggest employee names starting with '{}'.", prefix);
+
+        if (prefix.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<NameSuggestion> suggestions = employeeService.getNameSuggestions(prefix.strip(),
+                Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+
+        if (suggestions.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.ok(suggestions);
+        }
+    }
+
+    /**
+     * Query employees by salary and age ranges, optionally combined with a name search.
+     *
+     * @param query The optional minSalary, maxSalary, minAge and maxAge bounds (inclusive), searchString,
+     *              sort ("salary", "-salary", "age" or "-age") and limit.
+     * @return ResponseEntity streaming the matching employees as a JSON array, 204 if none match, or 400 if the
+     *         sort order is not supported.
+     */
+    @GetMapping(value = "/employees/query", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> queryEmployees(@ParameterObject EmployeeQuery query) {
+        logger.info("Received request to query employees.");
+
+        List<Employee> employees;
+        try {
+            employees = employeeService.queryEmployees(query);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected employee query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (employees.isEmpty()) {
+            logger.warn("No employees found matching the query.");
+            return ResponseEntity.noContent().build();
+        } else {
+            logger.info("Returning {} employees matching the query.", employees.size());
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .body(outputStream -> writeEmployees(employees, outputStream));
+        }
+    }
+
+    /**
+     * Get salary count, sum, min, max and average grouped into age or salary buckets.
+     *
+     * @param groupBy    "age" (default) or "salary".
+     * @param boundaries Strictly ascending bucket boundaries; n boundaries give n + 1 buckets, each including its
+     *                   lower bound. Defaults to 10-year age bands from 20 to 60, or salary bands from 50k to 500k.
+     * @return ResponseEntity containing one aggregate per bucket, 204 if there are no employees, or 400 if the
+     *         grouping or boundaries are invalid.
+     */
+    @GetMapping("/employees/aggregates")
+    public ResponseEntity<List<SalaryAggregate>> getSalaryAggregates(
+            @RequestParam(value = "groupBy", defaultValue = "age") String groupBy,
+            @RequestParam(value = "boundaries", required = false) int[] boundaries) {
+        logger.info("Received request to aggregate salaries by {}.", groupBy);
+
+        int[] bucketBoundaries = boundaries != null ? boundaries
+                : "salary".equals(groupBy) ? DEFAULT_SALARY_BOUNDARIES : DEFAULT_AGE_BOUNDARIES;
+
+        List<SalaryAggregate> aggregates;
+        try {
+            aggregates = employeeService.getSalaryAggregates(groupBy, bucketBoundaries);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected salary aggregation: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (aggregates.isEmpty()) {
+            logger.warn("No employees found to aggregate.");
+            return ResponseEntity.noContent().build();
+        } else {
+            logger.info("Returning {} salary buckets grouped by {}.", aggregates.size(), groupBy);
+            return ResponseEntity.ok(aggregates);
+        }
+    }
+
+    /**
+     * Stream employee changes as Server-Sent Events.
+     *
+     * @param lastEventId The sequence number of the last event received, sent by EventSource clients on reconnect.
+     * @param since       The sequence number to resume after on a first connection. Defaults to the latest one.
+     * @return SseEmitter sending "added", "removed" and "updated" events, or a "reset" event if the requested
+     *         sequence is no longer buffered or is ahead of this instance's feed (after a restart or from another
+     *         replica) and the client should re-read all employees. 503 with Retry-After if
+     *         the change feed already has its maximum number of streams.
+     */
+    @GetMapping(value = "/employees/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEmployeeChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "since", required = false) Long since) {
+        long resumeAfter = lastEventId != null ? lastEventId : since != null ? since : changeFeed.getLatestSequence();
+        logger.info("Received request to stream employee changes after sequence {}.", resumeAfter);
+
+        try {
+            return ResponseEntity.ok(new EmployeeChangeStream(changeFeed, changeStreamTimeoutMillis).open(resumeAfter));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Change feed is at its stream limit, rejecting the stream.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+    }
+
+    /**
+     * Get the employee changes after a sequence number, for clients that poll instead of streaming.
+     *
+     * @param since The sequence number of the last change the client has applied.
+     * @return ResponseEntity containing the newer changes, 204 if there are none, or 410 if the requested
+     *         sequence is no longer buffered or is ahead of this instance's feed and the client should re-read
+     *         all employees.
+     */
+    @GetMapping(value = "/employees/changes", params = "since", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EmployeeChangeEvent>> getEmployeeChanges(@RequestParam("since") long since) {
+        logger.info("Received request to get employee changes after sequence {}.", since);
+
+        Optional<List<EmployeeChangeEvent>> changes = changeFeed.eventsAfter(since);
+        String latestSequence = String.valueOf(changeFeed.getLatestSequence());
+
+        if (changes.isEmpty()) {
+            logger.warn("Employee changes after sequence {} are not buffered here.", since);
+            return ResponseEntity.status(HttpStatus.GONE).header("X-Latest-Sequence", latestSequence).build();
+        } else if (changes.get().isEmpty()) {
+            return ResponseEntity.noContent().header("X-Latest-Sequence", latestSequence).build();
+        } else {
+            logger.info("Returning {} employee changes after sequence {}.", changes.get().size(), since);
+            return ResponseEntity.ok().header("X-Latest-Sequence", latestSequence).body(changes.get());
+        }
+    }
+
+    /**
+     * Get an employee by ID. Handled on the upstream executor, as the lookup may call the upstream.
      *
      * @param id The ID of the employee to retrieve.
      * @return ResponseEntity containing the employee or a 404 status if not found.
      */
     @GetMapping("/employees/{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
         logger.info("Received request to get employee by ID '{}'.", id);
 
-        Employee employee = employeeService.getEmployeeById(id);
+        return onUpstreamExecutor(() -> {
+            Employee employee = employeeService.getEmployeeById(id);
 
-        if (employee == null) {
-            logger.warn("Employee with ID '{}' not found.", id);
-            return ResponseEntity.notFound().build();
-        } else {
-            logger.info("Returning employee with ID '{}'.", id);
-            return ResponseEntity.ok(employee);
-        }
+            if (employee == null) {
+                logger.warn("Employee with ID '{}' not found.", id);
+                return ResponseEntity.notFound().build();
+            } else {
+                logger.info("Returning employee with ID '{}'.", id);
+                return ResponseEntity.ok(employee);
+            }
+        });
     }
 
     /**
@@ -135,45 +333,73 @@ public class EmployeeController {
     }
 
     /**
-     * Create a new employee.
+     * Create a new employee. Handled on the upstream executor.
      *
      * @param employeeRequest The request body containing the employee details.
      * @return ResponseEntity containing the creation status.
      */
     @PostMapping("/employees")
-    public ResponseEntity<String> createEmployee(@RequestBody CreateEmployeeRequest employeeRequest) {
+    public CompletableFuture<ResponseEntity<String>> createEmployee(@RequestBody CreateEmployeeRequest employeeRequest) {
         logger.info("Received request to create a new employee with Name: {}, Salary: {}, Age: {}",
                 employeeRequest.getName(), employeeRequest.getSalary(), employeeRequest.getAge());
 
-        String status = employeeService.createEmployee(employeeRequest);
+        return onUpstreamExecutor(() -> {
+            String status = employeeService.createEmployee(employeeRequest);
 
-        if ("success".equals(status)) {
-            logger.info("Employee creation was successful.");
-            return ResponseEntity.ok("success");
-        } else {
-            logger.warn("Employee creation failed.");
-            return ResponseEntity.status(500).body("Failed to create employee");
-        }
+            if ("success".equals(status)) {
+                logger.info("Employee creation was successful.");
+                return ResponseEntity.ok("success");
+            } else {
+                logger.warn("Employee creation failed.");
+                return ResponseEntity.status(500).body("Failed to create employee");
+            }
+        });
     }
 
     /**
-     * Delete an employee by ID.
+     * Delete an employee by ID. Handled on the upstream executor.
      *
      * @param id The ID of the employee to delete.
      * @return ResponseEntity containing the name of the deleted employee or a 404 status if not found.
      */
     @DeleteMapping("/employees/{id}")
-    public ResponseEntity<String> deleteEmployeeById(@PathVariable String id) {
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
         logger.info("Received request to delete employee with ID '{}'.", id);
 
-        String deletedEmployeeName = employeeService.deleteEmployee(id);
+        return onUpstreamExecutor(() -> {
+            String deletedEmployeeName = employeeService.deleteEmployee(id);
 
-        if (deletedEmployeeName == null || deletedEmployeeName.isEmpty()) {
-            logger.warn("Employee with ID '{}' not found or could not be deleted.", id);
-            return ResponseEntity.notFound().build();
-        } else {
-            logger.info("Successfully deleted employee with ID '{}', Name: '{}'.", id, deletedEmployeeName);
-            return ResponseEntity.ok(deletedEmployeeName);
+            if (deletedEmployeeName == null || deletedEmployeeName.isEmpty()) {
+                logger.warn("Employee with ID '{}' not found or could not be deleted.", id);
+                return ResponseEntity.notFound().build();
+            } else {
+                logger.info("Successfully deleted employee with ID '{}', Name: '{}'.", id, deletedEmployeeName);
+                return ResponseEntity.ok(deletedEmployeeName);
+            }
+        });
+    }
+
+    // Run a handler's upstream-bound work on the upstream executor, so the request thread returns to the container
+    // while the upstream call is in progress; 503 with Retry-After if the executor's queue is full
+    private <T> CompletableFuture<ResponseEntity<T>> onUpstreamExecutor(Supplier<ResponseEntity<T>> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, upstreamExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Upstream executor is saturated, rejecting the request.");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build());
+        }
+    }
+
+    // Serialize one employee at a time so a large result is never held in memory as a whole document
+    private void writeEmployees(List<Employee> employees, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            for (Employee employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+            }
+            generator.writeEndArray();
         }
     }
 }
@@ -1,9 +1,14 @@
 package com.example.rqchallenge.controller;
 
 import com.example.rqchallenge.model.HealthResponse;
+import com.example.rqchallenge.model.ReadinessResponse;
+import com.example.rqchallenge.service.ReadinessMonitor;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,10 +19,45 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @Tag(name = "Health", description = "Health Check")
 public class HealthController {
 
+    private final ReadinessMonitor readinessMonitor;
+    private final ApplicationAvailability availability;
+
+    public HealthController(ReadinessMonitor readinessMonitor, ApplicationAvailability availability) {
+        this.readinessMonitor = readinessMonitor;
+        this.availability = availability;
+    }
+
     @GetMapping("/health")
     public ResponseEntity<HealthResponse> healthCheck() {
         HealthResponse healthResponse = new HealthResponse();
         return ResponseEntity.ok(healthResponse);
     }
-}
 
+    /**
+     * Liveness: whether the process is working at all. Checks nothing outside the JVM, so a struggling upstream
+     * never gets the instance restarted.
+     *
+     * @return 200 with status UP, or 503 with status DOWN once Spring Boot has marked the application broken.
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<HealthResponse> livenessCheck() {
+        HealthResponse healthResponse = new HealthResponse();
+        boolean live = availability.getLivenessState() == LivenessState.CORRECT;
+        healthResponse.setStatus(live ? ReadinessMonitor.UP : ReadinessMonitor.DOWN);
+        return ResponseEntity.status(live ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(healthResponse);
+    }
+
+    /**
+     * Readiness: whether the instance should receive traffic, with the upstream reachability, snapshot age and
+     * fill, connection pool usage and fallback rate behind the answer. Served from the result of the last
+     * background check, so polling it is cheap and never reaches the upstream.
+     *
+     * @return 200 when UP or DEGRADED, 503 when DOWN.
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<ReadinessResponse> readinessCheck() {
+        ReadinessResponse readiness = readinessMonitor.getReadiness();
+        HttpStatus status = ReadinessMonitor.DOWN.equals(readiness.getStatus()) ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+        return ResponseEntity.status(status).body(readiness);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.model.EmployeeSnapshot;
+import com.example.rqchallenge.service.EmployeeService;
+import com.example.rqchallenge.service.ReplicaPeers;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/internal")
+@Tag(name = "Internal", description = "Snapshot sharing between replicas")
+@ConditionalOnProperty(name = "employees.peers.enabled", havingValue = "true")
+public class SnapshotController {
+
+    private final EmployeeService employeeService;
+
+    public SnapshotController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * This replica's employee snapshot, for the replicas ranked after it. Loads the snapshot first if no request
+     * has done so yet. The entity tag names the version and checksum, so a replica that already holds them is
+     * answered with 304 and no body.
+     *
+     * @param ifNoneMatch The entity tag of the snapshot the caller last received, if any.
+     * @return 200 with the snapshot, 304 if it is unchanged, or 503 while only the default list is held.
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<EmployeeSnapshot> getSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EmployeeSnapshot snapshot = employeeService.getSharedSnapshot();
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        String etag = ReplicaPeers.etagOf(snapshot.getVersion(), snapshot.getChecksum());
+        boolean unchanged = etag.equals(ifNoneMatch);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(unchanged ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .header(EmployeeService.SNAPSHOT_LOADED_AT, snapshot.getLoadedAt());
+        return unchanged ? response.build() : response.body(snapshot);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.rqchallenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A service operation answered from a fallback instead of the upstream. The stack trace shows which branch.
+ */
+@Name("com.example.rqchallenge.Fallback")
+@Label("Fallback Activation")
+@Category({"Employee Service", "Upstream"})
+@Description("Service operation answered without a usable upstream response")
+public class FallbackEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Reason")
+    public String reason;
+
+    public static void record(String operation, String reason) {
+        FallbackEvent event = new FallbackEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.rqchallenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Load or refresh of the employee snapshot, from the upstream fetch to the applied change.
+ */
+@Name("com.example.rqchallenge.SnapshotLoad")
+@Label("Employee Snapshot Load")
+@Category({"Employee Service", "Snapshot"})
+@Description("First load or refresh of the in-memory employee snapshot")
+@StackTrace(false)
+public class SnapshotLoadEvent extends jdk.jfr.Event {
+
+    public static final String BASELINE = "baseline";
+    public static final String INCREMENTAL = "incremental";
+    public static final String FALLBACK = "fallback";
+    public static final String KEPT = "kept";
+
+    @Label("Kind")
+    @Description("baseline (full rebuild), incremental (diff applied), fallback (default list) or kept (fetch failed)")
+    public String kind;
+
+    @Label("Employees")
+    public int employees;
+
+    @Label("Changes")
+    public int changes;
+
+    @Label("Pending Local Writes")
+    public int pendingWrites;
+}
@@ -0,0 +1,43 @@
+package com.example.rqchallenge.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One HTTP exchange with the upstream API. The event lasts until the response is closed, i.e. after its body has
+ * been read and bound, so the duration minus {@code timeToHeaders} is time spent transferring and binding JSON.
+ */
+@Name("com.example.rqchallenge.UpstreamExchange")
+@Label("Upstream Exchange")
+@Category({"Employee Service", "Upstream"})
+@Description("HTTP exchange with the upstream employee API")
+@StackTrace(false)
+public class UpstreamExchangeEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL Template")
+    @Description("Request URL with id-like path segments replaced by {id}")
+    public String urlTemplate;
+
+    @Label("Status")
+    @Description("HTTP status code, or 0 if no response was received")
+    public int status;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Time To Headers")
+    @Timespan(Timespan.NANOSECONDS)
+    public long timeToHeaders;
+
+    @Label("Error")
+    public String error;
+}
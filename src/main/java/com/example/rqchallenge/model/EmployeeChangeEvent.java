@@ -0,0 +1,68 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class EmployeeChangeEvent {
+
+    public static final String ADDED = "added";
+    public static final String REMOVED = "removed";
+    public static final String UPDATED = "updated";
+
+    @JsonProperty("sequence")
+    private long sequence;
+
+    @JsonProperty("type")
+    private String type;
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("employee")
+    private Employee employee;
+
+    // Default constructor
+    public EmployeeChangeEvent() {
+    }
+
+    // Parameterized constructor
+    public EmployeeChangeEvent(long sequence, String type, Employee employee) {
+        this.sequence = sequence;
+        this.type = type;
+        this.id = employee.getId();
+        this.employee = employee;
+    }
+
+    // Getters and Setters
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.rqchallenge.model;
+
+/**
+ * Filters for the employee query endpoint, bound from request parameters. Every filter is optional and all
+ * given filters must match; bounds are inclusive.
+ */
+public class EmployeeQuery {
+
+    public static final String SORT_SALARY = "salary";
+    public static final String SORT_SALARY_DESC = "-salary";
+    public static final String SORT_AGE = "age";
+    public static final String SORT_AGE_DESC = "-age";
+
+    private Integer minSalary;
+
+    private Integer maxSalary;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    // Case insensitive name substring, as in the name search endpoint
+    private String searchString;
+
+    // One of the SORT_* values; results are in upstream order when absent
+    private String sort;
+
+    private Integer limit;
+
+    // Default constructor
+    public EmployeeQuery() {
+    }
+
+    // Getters and Setters
+
+    public Integer getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(Integer minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public Integer getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(Integer maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public String getSearchString() {
+        return searchString;
+    }
+
+    public void setSearchString(String searchString) {
+        this.searchString = searchString;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
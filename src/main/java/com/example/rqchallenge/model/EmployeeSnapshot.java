@@ -0,0 +1,72 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * A replica's employee snapshot, as shared with the replicas ranked after it.
+ */
+public class EmployeeSnapshot {
+
+    // Version of the snapshot on the replica serving it; moves on with every change
+    @JsonProperty("Version")
+    private long version;
+
+    // CRC-32C of the employees in order, for the receiving replica to verify
+    @JsonProperty("Checksum")
+    private String checksum;
+
+    // When the snapshot was last fetched from the upstream, by whichever replica fetched it
+    @JsonProperty("LoadedAt")
+    private String loadedAt;
+
+    @JsonProperty("Employees")
+    private List<Employee> employees;
+
+    // Default constructor
+    public EmployeeSnapshot() {
+    }
+
+    // Parameterized constructor
+    public EmployeeSnapshot(long version, String checksum, String loadedAt, List<Employee> employees) {
+        this.version = version;
+        this.checksum = checksum;
+        this.loadedAt = loadedAt;
+        this.employees = employees;
+    }
+
+    // Getters and Setters
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public String getLoadedAt() {
+        return loadedAt;
+    }
+
+    public void setLoadedAt(String loadedAt) {
+        this.loadedAt = loadedAt;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<Employee> employees) {
+        this.employees = employees;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class NameSuggestion {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("employee_name")
+    private String employeeName;
+
+    // Default constructor
+    public NameSuggestion() {
+    }
+
+    // Parameterized constructor
+    public NameSuggestion(String id, String employeeName) {
+        this.id = id;
+        this.employeeName = employeeName;
+    }
+
+    // Getters and Setters
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public void setEmployeeName(String employeeName) {
+        this.employeeName = employeeName;
+    }
+}
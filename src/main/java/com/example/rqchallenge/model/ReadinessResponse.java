@@ -0,0 +1,187 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of the readiness checks, as last computed in the background.
+ */
+public class ReadinessResponse {
+
+    // Overall result: UP, DEGRADED (still serving) or DOWN
+    @JsonProperty("Status")
+    private String status;
+
+    // When the checks last ran
+    @JsonProperty("Timestamp")
+    private String timestamp;
+
+    // Why the status is not UP
+    @JsonProperty("Reasons")
+    private List<String> reasons = new ArrayList<>();
+
+    @JsonProperty("UpstreamReachable")
+    private boolean upstreamReachable;
+
+    // Time to open a TCP connection to the upstream, null if it could not be opened
+    @JsonProperty("UpstreamConnectMillis")
+    private Long upstreamConnectMillis;
+
+    @JsonProperty("SnapshotLoaded")
+    private boolean snapshotLoaded;
+
+    // Whether the built-in default list is being served instead of upstream data
+    @JsonProperty("SnapshotFallback")
+    private boolean snapshotFallback;
+
+    @JsonProperty("SnapshotAgeSeconds")
+    private Long snapshotAgeSeconds;
+
+    @JsonProperty("SnapshotEmployees")
+    private int snapshotEmployees;
+
+    // Replica the snapshot was loaded from, or "upstream" if this instance loaded it itself
+    @JsonProperty("SnapshotSource")
+    private String snapshotSource;
+
+    @JsonProperty("PendingWrites")
+    private int pendingWrites;
+
+    // Upstream connection pool usage, null with the HTTP/2 client
+    @JsonProperty("PoolLeased")
+    private Integer poolLeased;
+
+    @JsonProperty("PoolMax")
+    private Integer poolMax;
+
+    @JsonProperty("PoolPending")
+    private Integer poolPending;
+
+    // Fraction of upstream calls since the previous check answered with a fallback
+    @JsonProperty("FallbackRate")
+    private double fallbackRate;
+
+    // Getters and Setters
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(String timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public List<String> getReasons() {
+        return reasons;
+    }
+
+    public void setReasons(List<String> reasons) {
+        this.reasons = reasons;
+    }
+
+    public boolean isUpstreamReachable() {
+        return upstreamReachable;
+    }
+
+    public void setUpstreamReachable(boolean upstreamReachable) {
+        this.upstreamReachable = upstreamReachable;
+    }
+
+    public Long getUpstreamConnectMillis() {
+        return upstreamConnectMillis;
+    }
+
+    public void setUpstreamConnectMillis(Long upstreamConnectMillis) {
+        this.upstreamConnectMillis = upstreamConnectMillis;
+    }
+
+    public boolean isSnapshotLoaded() {
+        return snapshotLoaded;
+    }
+
+    public void setSnapshotLoaded(boolean snapshotLoaded) {
+        this.snapshotLoaded = snapshotLoaded;
+    }
+
+    public boolean isSnapshotFallback() {
+        return snapshotFallback;
+    }
+
+    public void setSnapshotFallback(boolean snapshotFallback) {
+        this.snapshotFallback = snapshotFallback;
+    }
+
+    public Long getSnapshotAgeSeconds() {
+        return snapshotAgeSeconds;
+    }
+
+    public void setSnapshotAgeSeconds(Long snapshotAgeSeconds) {
+        this.snapshotAgeSeconds = snapshotAgeSeconds;
+    }
+
+    public int getSnapshotEmployees() {
+        return snapshotEmployees;
+    }
+
+    public void setSnapshotEmployees(int snapshotEmployees) {
+        this.snapshotEmployees = snapshotEmployees;
+    }
+
+    public String getSnapshotSource() {
+        return snapshotSource;
+    }
+
+    public void setSnapshotSource(String snapshotSource) {
+        this.snapshotSource = snapshotSource;
+    }
+
+    public int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    public void setPendingWrites(int pendingWrites) {
+        this.pendingWrites = pendingWrites;
+    }
+
+    public Integer getPoolLeased() {
+        return poolLeased;
+    }
+
+    public void setPoolLeased(Integer poolLeased) {
+        this.poolLeased = poolLeased;
+    }
+
+    public Integer getPoolMax() {
+        return poolMax;
+    }
+
+    public void setPoolMax(Integer poolMax) {
+        this.poolMax = poolMax;
+    }
+
+    public Integer getPoolPending() {
+        return poolPending;
+    }
+
+    public void setPoolPending(Integer poolPending) {
+        this.poolPending = poolPending;
+    }
+
+    public double getFallbackRate() {
+        return fallbackRate;
+    }
+
+    public void setFallbackRate(double fallbackRate) {
+        this.fallbackRate = fallbackRate;
+    }
+}
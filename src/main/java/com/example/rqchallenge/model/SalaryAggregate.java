@@ -0,0 +1,105 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Salary statistics of the employees in one age or salary bucket. The bucket covers {@code from} (inclusive) to
+ * {@code to} (exclusive); a null bound means the bucket is open on that side.
+ */
+public class SalaryAggregate {
+
+    @JsonProperty("from")
+    private Integer from;
+
+    @JsonProperty("to")
+    private Integer to;
+
+    @JsonProperty("count")
+    private long count;
+
+    @JsonProperty("salary_sum")
+    private long salarySum;
+
+    // Null when the bucket is empty
+    @JsonProperty("salary_min")
+    private Integer salaryMin;
+
+    @JsonProperty("salary_max")
+    private Integer salaryMax;
+
+    @JsonProperty("salary_average")
+    private Double salaryAverage;
+
+    // Default constructor
+    public SalaryAggregate() {
+    }
+
+    // Parameterized constructor
+    public SalaryAggregate(Integer from, Integer to, long count, long salarySum, Integer salaryMin, Integer salaryMax) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+        this.salarySum = salarySum;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+        this.salaryAverage = count > 0 ? (double) salarySum / count : null;
+    }
+
+    // Getters and Setters
+
+    public Integer getFrom() {
+        return from;
+    }
+
+    public void setFrom(Integer from) {
+        this.from = from;
+    }
+
+    public Integer getTo() {
+        return to;
+    }
+
+    public void setTo(Integer to) {
+        this.to = to;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getSalarySum() {
+        return salarySum;
+    }
+
+    public void setSalarySum(long salarySum) {
+        this.salarySum = salarySum;
+    }
+
+    public Integer getSalaryMin() {
+        return salaryMin;
+    }
+
+    public void setSalaryMin(Integer salaryMin) {
+        this.salaryMin = salaryMin;
+    }
+
+    public Integer getSalaryMax() {
+        return salaryMax;
+    }
+
+    public void setSalaryMax(Integer salaryMax) {
+        this.salaryMax = salaryMax;
+    }
+
+    public Double getSalaryAverage() {
+        return salaryAverage;
+    }
+
+    public void setSalaryAverage(Double salaryAverage) {
+        this.salaryAverage = salaryAverage;
+    }
+}
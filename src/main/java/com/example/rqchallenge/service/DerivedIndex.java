@@ -0,0 +1,73 @@
+package com.example.rqchallenge.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * A lookup structure built from the employee snapshot and rebuilt when the snapshot version changes. The first
+ * build runs on the calling thread; later rebuilds run in the background while the previous version keeps
+ * answering, so a snapshot change never stalls a request behind a rebuild.
+ */
+class DerivedIndex<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DerivedIndex.class);
+
+    private final String name;
+    private final Function<EmployeeIndex, T> builder;
+    private final Object buildLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Built<T> current;
+
+    DerivedIndex(String name, Function<EmployeeIndex, T> builder) {
+        this.name = name;
+        this.builder = builder;
+    }
+
+    // The structure for the snapshot, or for a recent version while a rebuild is in progress
+    T get(EmployeeIndex employees) {
+        Built<T> built = current;
+        if (built == null) {
+            synchronized (buildLock) {
+                built = current;
+                if (built == null) {
+                    built = build(employees);
+                }
+            }
+        } else if (built.version != employees.getVersion() && rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    synchronized (buildLock) {
+                        build(employees);
+                    }
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+        return built.value;
+    }
+
+    private Built<T> build(EmployeeIndex employees) {
+        // Read the version first: if the snapshot moves on meanwhile, the next call simply rebuilds again
+        long version = employees.getVersion();
+        logger.debug("Building {} for snapshot version {}.", name, version);
+        Built<T> built = new Built<>(version, builder.apply(employees));
+        current = built;
+        return built;
+    }
+
+    private static class Built<T> {
+
+        private final long version;
+        private final T value;
+
+        Built(long version, T value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
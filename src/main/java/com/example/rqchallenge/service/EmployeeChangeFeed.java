@@ -0,0 +1,201 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Sequenced feed of employee additions, removals and updates, kept in a bounded ring buffer so clients can
+ * resume from the last sequence number they saw.
+ *
+ * Publishing never waits for a subscriber: each subscriber has a bounded queue, drained by a small pool of
+ * delivery threads shared by all subscribers. A subscriber that falls so far behind that its queue overflows is
+ * dropped and told so, and can resume from the buffer like any reconnecting client. The number of subscribers
+ * is capped, so open streams cannot grow without bound.
+ */
+@Component
+public class EmployeeChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    private final EmployeeChangeEvent[] buffer;
+    private final int subscriberQueueSize;
+    private final int maxSubscribers;
+    private final ExecutorService deliveryExecutor;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object deliveryLock = new Object();
+
+    // Sequence number of the most recent event, 0 before the first one
+    private long latestSequence;
+
+    @Autowired
+    public EmployeeChangeFeed(@Value("${employees.changes.buffer-size:4096}") int capacity,
+                              @Value("${employees.changes.subscriber-queue-size:256}") int subscriberQueueSize,
+                              @Value("${employees.changes.delivery-threads:4}") int deliveryThreads,
+                              @Value("${employees.changes.max-subscribers:1000}") int maxSubscribers) {
+        this.buffer = new EmployeeChangeEvent[capacity];
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.maxSubscribers = maxSubscribers;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, task -> {
+            Thread thread = new Thread(task, "employee-change-delivery-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Publish one event per employee in the diff, removals first
+    public void publish(EmployeeSnapshotDiff diff) {
+        if (diff.isEmpty()) {
+            return;
+        }
+        logger.debug("Publishing {} employee changes.", diff.size());
+        diff.getRemoved().forEach(employee -> publish(EmployeeChangeEvent.REMOVED, employee));
+        diff.getAdded().forEach(employee -> publish(EmployeeChangeEvent.ADDED, employee));
+        diff.getUpdated().forEach(employee -> publish(EmployeeChangeEvent.UPDATED, employee));
+    }
+
+    // Subscribers see events in sequence order; delivery only queues the event
+    public void publish(String type, Employee employee) {
+        synchronized (deliveryLock) {
+            EmployeeChangeEvent event;
+            synchronized (this) {
+                event = new EmployeeChangeEvent(++latestSequence, type, employee);
+                buffer[(int) (event.getSequence() % buffer.length)] = event;
+            }
+
+            // Readers of the buffer only wait for the append, not for delivery
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Events published after the given sequence number.
+     *
+     * @param sequence The last sequence number the caller has seen.
+     * @return The newer events in order, or empty if some of them have already been evicted from the buffer or
+     *         the sequence number is ahead of this feed. Sequences restart at 0 with every process, so a client
+     *         coming back after a restart or to another replica may hold one this feed has not reached.
+     */
+    public synchronized Optional<List<EmployeeChangeEvent>> eventsAfter(long sequence) {
+        long oldestRetained = Math.max(1, latestSequence - buffer.length + 1);
+        if (sequence + 1 < oldestRetained || sequence > latestSequence) {
+            return Optional.empty();
+        }
+
+        List<EmployeeChangeEvent> events = new ArrayList<>();
+        for (long next = Math.max(sequence + 1, oldestRetained); next <= latestSequence; next++) {
+            events.add(buffer[(int) (next % buffer.length)]);
+        }
+        return Optional.of(events);
+    }
+
+    public synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Register a subscriber for events published from now on. Events are delivered in order on one of the
+     * shared delivery threads, never on two threads at once for the same subscriber.
+     *
+     * @param subscriber Called with each event.
+     * @param onOverflow Called on a delivery thread once the subscriber has been dropped for falling behind.
+     * @return A handle to run to unsubscribe.
+     * @throws RejectedExecutionException If the feed already has the maximum number of subscribers.
+     */
+    public Runnable subscribe(Consumer<EmployeeChangeEvent> subscriber, Runnable onOverflow) {
+        Subscription subscription = new Subscription(subscriber, onOverflow);
+        synchronized (deliveryLock) {
+            if (subscriptions.size() >= maxSubscribers) {
+                throw new RejectedExecutionException("Change feed already has " + maxSubscribers + " subscribers");
+            }
+            subscriptions.add(subscription);
+        }
+        return subscription::cancel;
+    }
+
+    // Number of current subscriptions
+    int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private final class Subscription {
+
+        private final BlockingQueue<EmployeeChangeEvent> queue = new ArrayBlockingQueue<>(subscriberQueueSize);
+        private final Consumer<EmployeeChangeEvent> subscriber;
+        private final Runnable onOverflow;
+        // Set while a drain is queued or running, so at most one delivery thread works on this subscriber
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile boolean overflowed;
+
+        private Subscription(Consumer<EmployeeChangeEvent> subscriber, Runnable onOverflow) {
+            this.subscriber = subscriber;
+            this.onOverflow = onOverflow;
+        }
+
+        // Called under the delivery lock, so it must never block
+        private void offer(EmployeeChangeEvent event) {
+            if (!queue.offer(event)) {
+                logger.warn("Dropping a change feed subscriber {} events behind.", queue.size());
+                overflowed = true;
+                cancel();
+            }
+            scheduleDrain();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                EmployeeChangeEvent event;
+                while (!cancelled && (event = queue.poll()) != null) {
+                    subscriber.accept(event);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Change feed subscriber failed, unsubscribing it.", e);
+                cancel();
+            }
+            if (overflowed) {
+                // Left marked as draining, so the subscriber is told only once
+                onOverflow.run();
+                return;
+            }
+            draining.set(false);
+            // An event or the overflow that arrived as the loop ended found the drain still marked, so pick it up
+            if (overflowed || (!cancelled && !queue.isEmpty())) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rqchallenge.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Salary and age of every employee in one snapshot version, as parallel primitive arrays for scans that do not
+ * need the Employee objects. Results derived from the columns can be memoized here; they are dropped together
+ * with the columns when the snapshot changes.
+ */
+public class EmployeeColumns {
+
+    // Bounds the memo when clients vary their parameters within one version
+    private static final int MAX_MEMOIZED = 64;
+
+    private final long version;
+    private final int[] salaries;
+    private final int[] ages;
+    private final Map<String, Object> memo = new ConcurrentHashMap<>();
+
+    public EmployeeColumns(long version, int[] salaries, int[] ages) {
+        this.version = version;
+        this.salaries = salaries;
+        this.ages = ages;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public int[] getSalaries() {
+        return salaries;
+    }
+
+    public int[] getAges() {
+        return ages;
+    }
+
+    // Compute a value once per version and key
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(String key, Supplier<T> supplier) {
+        Object value = memo.get(key);
+        if (value == null) {
+            value = supplier.get();
+            if (memo.size() < MAX_MEMOIZED) {
+                memo.putIfAbsent(key, value);
+            }
+        }
+        return (T) value;
+    }
+}
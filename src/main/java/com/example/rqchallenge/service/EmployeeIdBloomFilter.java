@@ -0,0 +1,66 @@
+package com.example.rqchallenge.service;
+
+/**
+ * Bloom filter over employee ids. {@link #mightContain(String)} never returns false for an added id, so a false
+ * answer proves the id is unknown; a true answer is wrong for roughly the configured fraction of unknown ids.
+ */
+public class EmployeeIdBloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private int count;
+
+    public EmployeeIdBloomFilter(int capacity, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        this.capacity = Math.max(1, capacity);
+        this.bitCount = Math.max(64, (int) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * ln2));
+        this.bits = new long[(bitCount + 63) / 64];
+    }
+
+    public void add(String id) {
+        long hash = hash(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+        count++;
+    }
+
+    public boolean mightContain(String id) {
+        long hash = hash(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Past its capacity the false positive rate climbs above the configured one, so the owner should resize it
+    public boolean isOverCapacity() {
+        return count > capacity;
+    }
+
+    // 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer so both halves are well distributed
+    private static long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
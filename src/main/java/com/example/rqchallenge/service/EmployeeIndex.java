@@ -0,0 +1,711 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeQuery;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The current employee snapshot together with the structures derived from it: an id lookup in upstream order,
+ * salary and age orderings for range queries and pre-lowercased names for search.
+ *
+ * A refresh diffs the new employee list against the snapshot by id and applies only the inserts, deletes and
+ * updates, so the cost of keeping the derived structures current grows with the number of changes rather than
+ * with the number of employees. Readers share a read lock; changes are applied under the write lock.
+ *
+ * Employees are held in a compact form rather than as {@link Employee} objects: numeric ids, salaries and ages
+ * as primitives, names from a pool shared by every employee and snapshot, and the usual empty profile image as
+ * a shared constant. Employees are materialized when they are returned, so callers always get fresh objects.
+ */
+public class EmployeeIndex {
+
+    // Upstream order: positions are assigned as employees are first seen and kept when they are updated
+    private static final Comparator<Entry> BY_POSITION = Comparator.comparingLong(entry -> entry.position);
+
+    // Ties are broken by position, so every employee has a distinct place and range bounds can be probed
+    private static final Comparator<Entry> BY_SALARY =
+            Comparator.comparingInt((Entry entry) -> entry.salary).thenComparing(BY_POSITION);
+    private static final Comparator<Entry> BY_AGE =
+            Comparator.comparingInt((Entry entry) -> entry.age).thenComparing(BY_POSITION);
+
+    // Descending orders still keep ties in upstream order
+    private static final Comparator<Entry> BY_SALARY_DESC =
+            Comparator.comparingInt((Entry entry) -> entry.salary).reversed().thenComparing(BY_POSITION);
+    private static final Comparator<Entry> BY_AGE_DESC =
+            Comparator.comparingInt((Entry entry) -> entry.age).reversed().thenComparing(BY_POSITION);
+
+    private static final double ID_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Keyed by the id as a Long when it is a plain number, which is much smaller than the id string; see idKey
+    private final Map<Object, Entry> byId = new LinkedHashMap<>();
+    private final NavigableSet<Entry> bySalary = new TreeSet<>(BY_SALARY);
+    private final NavigableSet<Entry> byAge = new TreeSet<>(BY_AGE);
+    private long nextPosition;
+    private final EmployeeNamePool names = new EmployeeNamePool();
+
+    // Ids of the snapshot; a miss proves an id unknown without asking the upstream
+    private EmployeeIdBloomFilter knownIds = new EmployeeIdBloomFilter(1024, ID_FILTER_FALSE_POSITIVE_RATE);
+
+    private boolean loaded;
+    private boolean fallback;
+    private long version;
+    private Instant refreshedAt;
+
+    // Incremented on every diff; entries seen in the new list are stamped with it so removals need no extra set
+    private int diffGeneration;
+
+    // Employee list view and primitive columns of the current version, built on first use
+    private volatile List<Employee> employees;
+    private volatile EmployeeColumns columns;
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Whether the snapshot is the built-in default list served while the upstream is unavailable
+    public boolean isFallback() {
+        lock.readLock().lock();
+        try {
+            return fallback;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getVersion() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Instant getRefreshedAt() {
+        lock.readLock().lock();
+        try {
+            return refreshedAt;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replace the whole snapshot, rebuilding every derived structure
+    public void rebuild(List<Employee> newEmployees, boolean isFallback) {
+        lock.writeLock().lock();
+        try {
+            // Old names are released only after the new snapshot has taken its references, so shared names stay pooled
+            List<Entry> previous = new ArrayList<>(byId.values());
+            byId.clear();
+            bySalary.clear();
+            byAge.clear();
+            nextPosition = 0;
+            knownIds = new EmployeeIdBloomFilter(Math.max(1024, newEmployees.size() * 2), ID_FILTER_FALSE_POSITIVE_RATE);
+            for (Employee employee : newEmployees) {
+                insert(employee);
+            }
+            previous.forEach(entry -> names.release(entry.name));
+            loaded = true;
+            fallback = isFallback;
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compare a freshly fetched employee list with the snapshot by id. The snapshot itself is not modified; pass
+     * the result to {@link #apply(EmployeeSnapshotDiff)}. Only one diff may run at a time.
+     *
+     * @param newEmployees The new employee list.
+     * @return The employees added, removed and updated relative to the snapshot.
+     */
+    public EmployeeSnapshotDiff diff(List<Employee> newEmployees) {
+        lock.readLock().lock();
+        try {
+            int generation = ++diffGeneration;
+            List<Employee> added = new ArrayList<>();
+            List<Employee> updated = new ArrayList<>();
+            for (Employee employee : newEmployees) {
+                Entry existing = byId.get(idKey(employee.getId()));
+                if (existing == null) {
+                    added.add(employee);
+                } else {
+                    existing.seenGeneration = generation;
+                    if (!existing.sameContent(employee)) {
+                        updated.add(employee);
+                    }
+                }
+            }
+
+            List<Employee> removed = new ArrayList<>();
+            for (Entry entry : byId.values()) {
+                if (entry.seenGeneration != generation) {
+                    removed.add(entry.toEmployee());
+                }
+            }
+            return new EmployeeSnapshotDiff(added, removed, updated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Apply a diff to the snapshot and every derived structure
+    public void apply(EmployeeSnapshotDiff diff) {
+        lock.writeLock().lock();
+        try {
+            diff.getRemoved().forEach(employee -> delete(employee.getId()));
+            diff.getUpdated().forEach(this::insert);
+            diff.getAdded().forEach(this::insert);
+            fallback = false;
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Add or replace a single employee, e.g. after a confirmed create
+    public void put(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            insert(employee);
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Remove a single employee, e.g. after a confirmed delete
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            if (delete(id)) {
+                changed();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Employee get(String id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = byId.get(idKey(id));
+            return entry != null ? entry.toEmployee() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // False only if the id is definitely not in the snapshot; removed ids may still answer true
+    public boolean mightContain(String id) {
+        lock.readLock().lock();
+        try {
+            return knownIds.mightContain(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * All employees in upstream order, as an unmodifiable view of the current version. Each element is
+     * materialized when it is read, so the view costs one reference per employee rather than a copy of each.
+     */
+    public List<Employee> getEmployees() {
+        List<Employee> current = employees;
+        if (current != null) {
+            return current;
+        }
+
+        lock.readLock().lock();
+        try {
+            current = new EmployeeListView(byId.values().toArray(new Entry[0]));
+            employees = current;
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Id key and pooled name of every employee in upstream order, for the name indexes; EMPTY for a missing name
+    void forEachName(BiConsumer<Object, EmployeeNamePool.Name> action) {
+        lock.readLock().lock();
+        try {
+            byId.forEach((key, entry) -> action.accept(key, entry.name != null ? entry.name : EmployeeNamePool.EMPTY));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Salary and age of every employee in upstream order, for aggregations over the current version
+    public EmployeeColumns getColumns() {
+        EmployeeColumns current = columns;
+        if (current != null) {
+            return current;
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] salaries = new int[byId.size()];
+            int[] ages = new int[byId.size()];
+            int i = 0;
+            for (Entry entry : byId.values()) {
+                salaries[i] = entry.salary;
+                ages[i] = entry.age;
+                i++;
+            }
+            current = new EmployeeColumns(version, salaries, ages);
+            columns = current;
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Employees whose name contains the search string, case insensitive, in upstream order
+    public List<Employee> searchByName(String searchString) {
+        String needle = searchString.toLowerCase();
+        lock.readLock().lock();
+        try {
+            List<Employee> matches = new ArrayList<>();
+            for (Entry entry : byId.values()) {
+                if (entry.lowerCaseName().contains(needle)) {
+                    matches.add(entry.toEmployee());
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Highest salary, or 0 when there are no employees
+    public int getHighestSalary() {
+        lock.readLock().lock();
+        try {
+            return bySalary.isEmpty() ? 0 : bySalary.last().salary;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The highest earning employees, highest first and equal salaries in upstream order
+    public List<Employee> getTopEarners(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Employee> top = new ArrayList<>(limit);
+            Iterator<Entry> iterator = descending(bySalary).iterator();
+            while (top.size() < limit && iterator.hasNext()) {
+                top.add(iterator.next().toEmployee());
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees matching every filter of the query. When both a salary and an age range are given, the range
+     * holding fewer employees drives the scan and the other filters are checked per candidate.
+     *
+     * @param query The filters, sort order and limit.
+     * @return The matching employees, sorted and limited as requested.
+     * @throws IllegalArgumentException If the sort order is not supported.
+     */
+    public List<Employee> query(EmployeeQuery query) {
+        Comparator<Entry> order = sortOrder(query.getSort());
+        int limit = query.getLimit() != null ? Math.max(0, query.getLimit()) : Integer.MAX_VALUE;
+        String needle = query.getSearchString() != null ? query.getSearchString().toLowerCase() : null;
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entry> salaryRange = hasRange(query.getMinSalary(), query.getMaxSalary())
+                    ? range(bySalary, query.getMinSalary(), query.getMaxSalary()) : null;
+            NavigableSet<Entry> ageRange = hasRange(query.getMinAge(), query.getMaxAge())
+                    ? range(byAge, query.getMinAge(), query.getMaxAge()) : null;
+
+            NavigableSet<Entry> index;
+            if (salaryRange != null && ageRange != null) {
+                index = smaller(salaryRange, ageRange);
+            } else if (salaryRange != null) {
+                index = salaryRange;
+            } else if (ageRange != null) {
+                index = ageRange;
+            } else if (order == BY_SALARY || order == BY_SALARY_DESC) {
+                // No range to narrow by, but walking the sort index lets the limit end the scan early
+                index = bySalary;
+            } else if (order == BY_AGE || order == BY_AGE_DESC) {
+                index = byAge;
+            } else {
+                index = null;
+            }
+
+            // The id map and the sorted indexes already yield some orders, so the limit can end the scan early
+            Iterable<Entry> candidates;
+            boolean presorted;
+            if (index == null) {
+                candidates = byId.values();
+                presorted = true;
+                order = BY_POSITION;
+            } else {
+                if (order == null) {
+                    order = BY_POSITION;
+                }
+                Comparator<? super Entry> indexOrder = index.comparator();
+                if (indexOrder == order) {
+                    candidates = index;
+                    presorted = true;
+                } else if (isReversed(indexOrder, order)) {
+                    candidates = descending(index);
+                    presorted = true;
+                } else {
+                    candidates = index;
+                    presorted = false;
+                }
+            }
+
+            List<Entry> matches = new ArrayList<>();
+            for (Entry entry : candidates) {
+                if (presorted && matches.size() >= limit) {
+                    break;
+                }
+                if (entry.matches(query, needle)) {
+                    matches.add(entry);
+                }
+            }
+            if (!presorted) {
+                matches.sort(order);
+            }
+
+            List<Employee> employees = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                employees.add(matches.get(i).toEmployee());
+            }
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Insert or replace; a replaced employee keeps its position in upstream order
+    private void insert(Employee employee) {
+        Object key = idKey(employee.getId());
+        Entry previous = byId.get(key);
+        if (previous != null) {
+            bySalary.remove(previous);
+            byAge.remove(previous);
+        }
+        Entry entry = new Entry(employee, names.acquire(employee.getEmployeeName()),
+                previous != null ? previous.position : nextPosition++);
+        byId.put(key, entry);
+        bySalary.add(entry);
+        byAge.add(entry);
+
+        if (previous != null) {
+            names.release(previous.name);
+        } else {
+            knownIds.add(employee.getId());
+            if (knownIds.isOverCapacity()) {
+                resizeKnownIds();
+            }
+        }
+    }
+
+    // Bloom filters cannot grow, so rebuild with room for the snapshot to double again
+    private void resizeKnownIds() {
+        knownIds = new EmployeeIdBloomFilter(byId.size() * 2, ID_FILTER_FALSE_POSITIVE_RATE);
+        byId.values().forEach(entry -> knownIds.add(entry.getId()));
+    }
+
+    private boolean delete(String id) {
+        Entry entry = byId.remove(idKey(id));
+        if (entry == null) {
+            return false;
+        }
+        bySalary.remove(entry);
+        byAge.remove(entry);
+        names.release(entry.name);
+        return true;
+    }
+
+    private void changed() {
+        version++;
+        refreshedAt = Instant.now();
+        employees = null;
+        columns = null;
+    }
+
+    private static Comparator<Entry> sortOrder(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            return null;
+        }
+        switch (sort) {
+            case EmployeeQuery.SORT_SALARY:
+                return BY_SALARY;
+            case EmployeeQuery.SORT_SALARY_DESC:
+                return BY_SALARY_DESC;
+            case EmployeeQuery.SORT_AGE:
+                return BY_AGE;
+            case EmployeeQuery.SORT_AGE_DESC:
+                return BY_AGE_DESC;
+            default:
+                throw new IllegalArgumentException("Unsupported sort order '" + sort + "'");
+        }
+    }
+
+    private static boolean isReversed(Comparator<? super Entry> indexOrder, Comparator<Entry> order) {
+        return (indexOrder == BY_SALARY && order == BY_SALARY_DESC) || (indexOrder == BY_AGE && order == BY_AGE_DESC);
+    }
+
+    /**
+     * Walks a salary or age index from the highest value down, keeping the entries of each value in upstream
+     * order. A plain descending walk would also reverse the position tiebreak.
+     */
+    private static Iterable<Entry> descending(NavigableSet<Entry> index) {
+        ToIntFunction<Entry> value = index.comparator() == BY_AGE ? entry -> entry.age : entry -> entry.salary;
+        return () -> new Iterator<Entry>() {
+            private Entry groupEnd = index.isEmpty() ? null : index.last();
+            private Iterator<Entry> group = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!group.hasNext() && groupEnd != null) {
+                    // Range views reject keys outside their bounds, so never probe below the first entry
+                    Entry groupStart = Entry.probe(value.applyAsInt(groupEnd), Long.MIN_VALUE);
+                    if (index.comparator().compare(groupStart, index.first()) < 0) {
+                        groupStart = index.first();
+                    }
+                    group = index.subSet(groupStart, true, groupEnd, true).iterator();
+                    groupEnd = index.lower(groupStart);
+                }
+                return group.hasNext();
+            }
+
+            @Override
+            public Entry next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return group.next();
+            }
+        };
+    }
+
+    private static boolean hasRange(Integer min, Integer max) {
+        return min != null || max != null;
+    }
+
+    // Entries whose indexed value lies within [min, max]; probes sort before and after every real entry of a value
+    private static NavigableSet<Entry> range(NavigableSet<Entry> index, Integer min, Integer max) {
+        Entry from = Entry.probe(min != null ? min : Integer.MIN_VALUE, Long.MIN_VALUE);
+        Entry to = Entry.probe(max != null ? max : Integer.MAX_VALUE, Long.MAX_VALUE);
+        if (BY_SALARY.compare(from, to) > 0) {
+            return Collections.emptyNavigableSet();
+        }
+        return index.subSet(from, true, to, true);
+    }
+
+    // Range views only count by walking, so advance both together and stop as soon as the smaller one ends
+    private static NavigableSet<Entry> smaller(NavigableSet<Entry> first, NavigableSet<Entry> second) {
+        Iterator<Entry> firstIterator = first.iterator();
+        Iterator<Entry> secondIterator = second.iterator();
+        while (firstIterator.hasNext() && secondIterator.hasNext()) {
+            firstIterator.next();
+            secondIterator.next();
+        }
+        return firstIterator.hasNext() ? second : first;
+    }
+
+    // Plain numeric ids are keyed as a Long, anything else as the id string itself
+    static Object idKey(String id) {
+        return isPlainNumber(id) ? (Object) Long.valueOf(id) : id;
+    }
+
+    /**
+     * Whether the text is exactly how Java prints some long: digits with an optional minus sign, no leading
+     * zeros or plus sign, and no surrounding whitespace. Such text can be stored as a number and printed back
+     * unchanged.
+     */
+    static boolean isPlainNumber(String text) {
+        if (text == null || text.isEmpty() || text.length() > 20) {
+            return false;
+        }
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == text.length() || (text.charAt(start) == '0' && (text.length() > start + 1 || start == 1))) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        // Nineteen digits and more may overflow
+        if (text.length() - start >= 19) {
+            try {
+                Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Upstream sends numbers as strings; unparseable values are indexed as 0
+    static int parseNumber(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * One employee in compact form. When the id, salary and age are plain numbers (the usual case) they are kept
+     * only as primitives; otherwise the three original strings are kept as well, so every employee is returned
+     * exactly as the upstream sent it.
+     */
+    private static class Entry {
+
+        private static final int ID = 0;
+        private static final int SALARY = 1;
+        private static final int AGE = 2;
+
+        private final long id;
+        private final long position;
+        private final int salary;
+        private final int age;
+        private final EmployeeNamePool.Name name;  // null when the upstream sent no name
+        private final String profileImage;
+        private final String[] originalText;  // id, salary and age as sent, only when one is not a plain number
+        private int seenGeneration;
+
+        Entry(Employee employee, EmployeeNamePool.Name name, long position) {
+            this.position = position;
+            this.name = name;
+            this.salary = parseNumber(employee.getEmployeeSalary());
+            this.age = parseNumber(employee.getEmployeeAge());
+            this.profileImage = "".equals(employee.getProfileImage()) ? "" : employee.getProfileImage();
+
+            boolean plain = isPlainNumber(employee.getId())
+                    && printsAs(employee.getEmployeeSalary(), salary)
+                    && printsAs(employee.getEmployeeAge(), age);
+            this.id = plain ? Long.parseLong(employee.getId()) : 0;
+            this.originalText = plain ? null
+                    : new String[] {employee.getId(), employee.getEmployeeSalary(), employee.getEmployeeAge()};
+        }
+
+        private Entry(int value, long position) {
+            this.id = 0;
+            this.position = position;
+            this.salary = value;
+            this.age = value;
+            this.name = null;
+            this.profileImage = null;
+            this.originalText = null;
+        }
+
+        // Search key for range bounds, valid in both the salary and the age index
+        static Entry probe(int value, long position) {
+            return new Entry(value, position);
+        }
+
+        String getId() {
+            return originalText != null ? originalText[ID] : Long.toString(id);
+        }
+
+        String lowerCaseName() {
+            return name != null ? name.lowerCase : "";
+        }
+
+        Employee toEmployee() {
+            return new Employee(getId(),
+                    name != null ? name.value : null,
+                    originalText != null ? originalText[SALARY] : Integer.toString(salary),
+                    originalText != null ? originalText[AGE] : Integer.toString(age),
+                    profileImage);
+        }
+
+        // Whether the employee has the same name, salary, age and profile image, without materializing this entry
+        boolean sameContent(Employee employee) {
+            String employeeName = employee.getEmployeeName();
+            if (name == null ? employeeName != null : !name.value.equals(employeeName)) {
+                return false;
+            }
+            boolean sameNumbers = originalText != null
+                    ? Objects.equals(originalText[SALARY], employee.getEmployeeSalary())
+                        && Objects.equals(originalText[AGE], employee.getEmployeeAge())
+                    : printsAs(employee.getEmployeeSalary(), salary) && printsAs(employee.getEmployeeAge(), age);
+            return sameNumbers && Objects.equals(profileImage, employee.getProfileImage());
+        }
+
+        boolean matches(EmployeeQuery query, String needle) {
+            return within(salary, query.getMinSalary(), query.getMaxSalary())
+                    && within(age, query.getMinAge(), query.getMaxAge())
+                    && (needle == null || lowerCaseName().contains(needle));
+        }
+
+        private static boolean printsAs(String text, int value) {
+            return isPlainNumber(text) && Long.parseLong(text) == value;
+        }
+
+        private static boolean within(int value, Integer min, Integer max) {
+            return (min == null || value >= min) && (max == null || value <= max);
+        }
+    }
+
+    // Read-only view of one version's entries in upstream order
+    private static class EmployeeListView extends AbstractList<Employee> implements RandomAccess {
+
+        private final Entry[] entries;
+
+        EmployeeListView(Entry[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Employee get(int index) {
+            return entries[index].toEmployee();
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+    }
+}
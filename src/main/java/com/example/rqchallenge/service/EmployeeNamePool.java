@@ -0,0 +1,57 @@
+package com.example.rqchallenge.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary of the employee names held by an index. Each distinct name is stored once, together with its
+ * lower-cased form, however many employees share it and however many snapshots it survives. Names are counted
+ * so that one no longer held by any employee is dropped instead of accumulating across refreshes.
+ *
+ * Not thread-safe; the index only uses it under its write lock.
+ */
+class EmployeeNamePool {
+
+    static final Name EMPTY = new Name("", "");
+
+    private final Map<String, Name> names = new HashMap<>();
+
+    // The pooled name equal to value, taking a reference that must be given back with release; null for null
+    Name acquire(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.isEmpty()) {
+            return EMPTY;
+        }
+        Name name = names.get(value);
+        if (name == null) {
+            name = new Name(value, value.toLowerCase());
+            names.put(name.value, name);
+        }
+        name.references++;
+        return name;
+    }
+
+    void release(Name name) {
+        if (name != null && name != EMPTY && --name.references == 0) {
+            names.remove(name.value);
+        }
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    static final class Name {
+
+        final String value;
+        final String lowerCase;  // Same instance as value when the name has no upper-case characters
+        private int references;
+
+        private Name(String value, String lowerCase) {
+            this.value = value;
+            this.lowerCase = lowerCase;
+        }
+    }
+}
@@ -4,9 +4,18 @@ import com.example.rqchallenge.model.Employee;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.EmployeeApiResponse;
 import com.example.rqchallenge.model.CreateEmployeeResponse;
-
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+import com.example.rqchallenge.model.EmployeeQuery;
+import com.example.rqchallenge.model.EmployeeSnapshot;
+import com.example.rqchallenge.model.NameSuggestion;
+import com.example.rqchallenge.model.SalaryAggregate;
+import com.example.rqchallenge.jfr.FallbackEvent;
+import com.example.rqchallenge.jfr.SnapshotLoadEvent;
+import com.example.rqchallenge.config.RequestDeadline;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpMethod;
@@ -20,40 +29,345 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 public class EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
-    private final RestTemplate restTemplate;
-    private String baseUrl;
+    // Response types of the upstream calls, created once so the converter can cache a reader per instance
+    private static final ParameterizedTypeReference<EmployeeApiResponse<List<Employee>>> EMPLOYEE_LIST_RESPONSE =
+            new ParameterizedTypeReference<EmployeeApiResponse<List<Employee>>>() {};
+    private static final ParameterizedTypeReference<EmployeeApiResponse<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<EmployeeApiResponse<Employee>>() {};
+    private static final ParameterizedTypeReference<EmployeeApiResponse<CreateEmployeeResponse>> CREATE_RESPONSE =
+            new ParameterizedTypeReference<EmployeeApiResponse<CreateEmployeeResponse>>() {};
+    private static final ParameterizedTypeReference<EmployeeApiResponse<String>> DELETE_RESPONSE =
+            new ParameterizedTypeReference<EmployeeApiResponse<String>>() {};
 
-    public EmployeeService(RestTemplate restTemplate, @Value("${api.base.url}") String baseUrl) {
+    // Header carrying the upstream load time of a shared snapshot, also on 304 responses that have no body
+    public static final String SNAPSHOT_LOADED_AT = "X-Snapshot-Loaded-At";
+
+    private final RestTemplate restTemplate;
+    private final EmployeeChangeFeed changeFeed;
+    private final NegativeLookupCache unknownIds;
+    private UpstreamShards shards;
+    private final ReplicaPeers peers;
+
+    // Current employee snapshot and its derived lookups, loaded on first use and kept current by refreshes
+    private final EmployeeIndex index = new EmployeeIndex();
+    private final Object refreshLock = new Object();
+    private volatile Instant upstreamLoadedAt;  // Last time a snapshot was fetched from the upstream, null if never
+
+    // Snapshot as last shared with other replicas, kept for its checksum; entity tag of the last one received
+    private volatile EmployeeSnapshot shared;
+    private String receivedEtag;
+
+    // Confirmed writes laid over each loaded snapshot until the upstream reflects them
+    private final EmployeeWriteOverlay writeOverlay;
+    private final Object writeLock = new Object();
+
+    // Upstream calls made and calls answered with a fallback instead, for the readiness check's fallback rate
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    // Name lookups derived from the snapshot, rebuilt in the background once its version moves on
+    private final DerivedIndex<NameAutocompleteIndex> autocompleteIndex =
+            new DerivedIndex<>("name autocomplete index", NameAutocompleteIndex::build);
+    private final DerivedIndex<FuzzyNameIndex> fuzzyNameIndex =
+            new DerivedIndex<>("fuzzy name index", snapshot -> FuzzyNameIndex.build(snapshot.getEmployees()));
+
+    @Autowired
+    public EmployeeService(RestTemplate restTemplate, UpstreamShards shards, ReplicaPeers peers,
+                           EmployeeChangeFeed changeFeed, NegativeLookupCache unknownIds,
+                           @Value("${employees.overlay.ttl-ms:300000}") long overlayTtlMillis) {
         this.restTemplate = restTemplate;
-        this.baseUrl = baseUrl;
+        this.shards = shards;
+        this.peers = peers;
+        this.changeFeed = changeFeed;
+        this.unknownIds = unknownIds;
+        this.writeOverlay = new EmployeeWriteOverlay(overlayTtlMillis);
     }
 
-    @Cacheable("employees")
     public List<Employee> getAllEmployees() {
+        return currentIndex().getEmployees();
+    }
+
+    // Method to re-fetch the employee list and apply the changes to the snapshot
+    public void refreshEmployees() {
+        logger.info("Refreshing employee snapshot.");
+        synchronized (refreshLock) {
+            loadEmployees();
+        }
+    }
+
+    // Method to load the snapshot and build the name indexes ahead of the first request; returns the employee count
+    public int preload() {
+        EmployeeIndex snapshot = currentIndex();
+        autocompleteIndex.get(snapshot);
+        fuzzyNameIndex.get(snapshot);
+        return snapshot.size();
+    }
+
+    // Method to describe the snapshot and the upstream call counts without loading or fetching anything
+    public EmployeeSnapshotStatus getSnapshotStatus() {
+        return new EmployeeSnapshotStatus(index.isLoaded(), index.isFallback(), index.size(), writeOverlay.size(),
+                upstreamLoadedAt, upstreamCalls.sum(), fallbacks.sum(), peers.getSource());
+    }
+
+    // Method to get the snapshot for another replica, loading it first if needed; null while only the default list is held
+    public EmployeeSnapshot getSharedSnapshot() {
+        currentIndex();
+        long version;
+        List<Employee> employees;
+        Instant loadedAt;
+        // Writes change the version and the list together, and loads also move the upstream load time
+        synchronized (writeLock) {
+            if (index.isFallback() || upstreamLoadedAt == null) {
+                return null;
+            }
+            version = index.getVersion();
+            employees = index.getEmployees();
+            loadedAt = upstreamLoadedAt;
+        }
+
+        // The checksum is computed once per version; a refresh without changes only moves the load time
+        EmployeeSnapshot previous = shared;
+        String checksum = previous != null && previous.getVersion() == version
+                ? previous.getChecksum() : SnapshotChecksum.of(employees);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(version, checksum, loadedAt.toString(), employees);
+        shared = snapshot;
+        return snapshot;
+    }
+
+    // The snapshot is fetched once on first use; afterwards reads never wait for the upstream
+    private EmployeeIndex currentIndex() {
+        if (!index.isLoaded()) {
+            synchronized (refreshLock) {
+                if (!index.isLoaded()) {
+                    loadEmployees();
+                }
+            }
+        }
+        return index;
+    }
+
+    // Fetch the employee list, from a replica ahead of this one or else the upstream, and apply only what changed
+    private void loadEmployees() {
+        // The snapshot serves every client, so it is not loaded under the deadline of whichever request triggered it
+        Long callerDeadline = RequestDeadline.current();
+        RequestDeadline.clear();
+        try {
+            SnapshotLoadEvent event = new SnapshotLoadEvent();
+            event.begin();
+            if (!loadFromReplicas(event)) {
+                if (peers.getSource() != null) {
+                    logger.warn("No replica ahead of this one answered; loading the employee snapshot from the upstream.");
+                    peers.setSource(null);
+                }
+                applySnapshot(fetchEmployees(), Instant.now(), event);
+            }
+            event.commit();
+        } finally {
+            RequestDeadline.restore(callerDeadline);
+        }
+    }
+
+    // Apply an upstream employee list fetched at loadedAt, or keep the snapshot if the list is null
+    private void applySnapshot(List<Employee> upstream, Instant loadedAt, SnapshotLoadEvent event) {
+        EmployeeSnapshotDiff changes = null;
+        // Writes must not land between laying the overlay over the snapshot and applying it
+        synchronized (writeLock) {
+            if (upstream == null) {
+                if (!index.isLoaded()) {
+                    index.rebuild(writeOverlay.applyTo(getDefaultEmployeeList()), true);  // Fallback to default employee list
+                    event.kind = SnapshotLoadEvent.FALLBACK;
+                } else {
+                    logger.warn("Keeping the previous employee snapshot of {} employees.", index.size());
+                    event.kind = SnapshotLoadEvent.KEPT;
+                }
+            } else {
+                upstreamLoadedAt = loadedAt;
+                // Our own writes the upstream does not show yet stay visible, so they are not reported as changes
+                List<Employee> employees = writeOverlay.reconcile(upstream);
+
+                // The first upstream snapshot is the baseline clients start from, so it produces no change events
+                if (!index.isLoaded() || index.isFallback()) {
+                    index.rebuild(employees, false);
+                    unknownIds.clear();
+                    event.kind = SnapshotLoadEvent.BASELINE;
+                } else {
+                    EmployeeSnapshotDiff diff = index.diff(employees);
+                    logger.debug("Employee snapshot has {} changes, {} local writes pending.", diff.size(), writeOverlay.size());
+                    index.apply(diff);
+                    diff.getAdded().forEach(employee -> unknownIds.remove(employee.getId()));
+                    changes = diff;
+                    event.kind = SnapshotLoadEvent.INCREMENTAL;
+                    event.changes = diff.size();
+                }
+            }
+            event.employees = index.size();
+            event.pendingWrites = writeOverlay.size();
+        }
+        // Published outside the write lock, so neither writes nor readers of the snapshot wait for the feed
+        if (changes != null) {
+            changeFeed.publish(changes);
+        }
+    }
+
+    /**
+     * Load the snapshot from the first replica ahead of this one that answers. A replica that does not answer at
+     * all is passed over; one that answers without a valid snapshot, e.g. because its own upstream load failed,
+     * leaves the current snapshot in place, so that replicas further down never call the upstream in its stead.
+     *
+     * @return false if no replica ahead answered, i.e. this replica is elected to load from the upstream.
+     */
+    private boolean loadFromReplicas(SnapshotLoadEvent event) {
+        for (String replica : peers.getAhead()) {
+            String url = replica + "/v1/internal/snapshot";
+            HttpHeaders headers = new HttpHeaders();
+            // A replica that still holds the same version answers 304 instead of sending the whole list again
+            if (receivedEtag != null && replica.equals(peers.getSource()) && index.isLoaded() && !index.isFallback()) {
+                headers.setIfNoneMatch(receivedEtag);
+            }
+
+            ResponseEntity<EmployeeSnapshot> response;
+            Long previousDeadline = RequestDeadline.current();
+            RequestDeadline.start(peers.getTimeout());
+            try {
+                logger.info("Fetching employee snapshot from replica {}", url);
+                response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), EmployeeSnapshot.class);
+            } catch (ResourceAccessException e) {
+                logger.warn("Replica {} is unreachable: {}", replica, e.getMessage());
+                continue;
+            } catch (Exception e) {
+                logger.warn("Replica {} did not share its snapshot: {}. Keeping the current snapshot.", replica, e.getMessage());
+                applySnapshot(null, null, event);
+                return true;
+            } finally {
+                RequestDeadline.restore(previousDeadline);
+            }
+
+            if (peers.getSource() == null) {
+                logger.info("Loading the employee snapshot from replica {} instead of the upstream.", replica);
+            }
+            peers.setSource(replica);
+            Instant loadedAt = parseInstant(response.getHeaders().getFirst(SNAPSHOT_LOADED_AT));
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                synchronized (writeLock) {
+                    if (loadedAt != null) {
+                        upstreamLoadedAt = loadedAt;
+                    }
+                    event.kind = SnapshotLoadEvent.KEPT;
+                    event.employees = index.size();
+                    event.pendingWrites = writeOverlay.size();
+                }
+                return true;
+            }
+
+            EmployeeSnapshot snapshot = response.getBody();
+            if (snapshot == null || snapshot.getEmployees() == null
+                    || !SnapshotChecksum.of(snapshot.getEmployees()).equals(snapshot.getChecksum())) {
+                logger.warn("Snapshot from replica {} failed its checksum. Keeping the current snapshot.", replica);
+                receivedEtag = null;
+                applySnapshot(null, null, event);
+                return true;
+            }
+            if (loadedAt == null) {
+                loadedAt = parseInstant(snapshot.getLoadedAt());
+            }
+            receivedEtag = response.getHeaders().getETag();
+            applySnapshot(snapshot.getEmployees(), loadedAt != null ? loadedAt : Instant.now(), event);
+            return true;
+        }
+        return false;
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Fetch the employee list from every shard in parallel and merge the lists, or null if it could not be retrieved
+    private List<Employee> fetchEmployees() {
+        if (shards.size() == 1) {
+            return fetchEmployees(shards.getBaseUrl(0));
+        }
+
+        List<List<Employee>> results = shards.fanOut(this::fetchEmployees);
+        List<Employee> employees = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        Set<Integer> failedShards = new HashSet<>();
+        for (int shard = 0; shard < results.size(); shard++) {
+            if (results.get(shard) == null) {
+                failedShards.add(shard);
+                continue;
+            }
+            // An employee listed by more than one shard, e.g. while it moves between them, is kept once
+            for (Employee employee : results.get(shard)) {
+                if (ids.add(employee.getId())) {
+                    employees.add(employee);
+                }
+            }
+        }
+
+        if (failedShards.isEmpty()) {
+            return employees;
+        }
+        if (failedShards.size() == shards.size() || !shards.isAllowPartial()) {
+            logger.warn("{} of {} upstream shards did not return their employees.", failedShards.size(), shards.size());
+            return null;
+        }
+        // Employees of the shards that did not answer are kept from the snapshot instead of being reported as removed
+        int kept = 0;
+        if (index.isLoaded() && !index.isFallback()) {
+            for (Employee employee : index.getEmployees()) {
+                if (failedShards.contains(shards.shardOf(employee.getId())) && ids.add(employee.getId())) {
+                    employees.add(employee);
+                    kept++;
+                }
+            }
+        }
+        logger.warn("Upstream shards {} did not return their employees; keeping their {} employees from the snapshot.",
+                failedShards, kept);
+        return employees;
+    }
+
+    // Fetch the employee list of one shard, or null if it could not be retrieved
+    private List<Employee> fetchEmployees(String baseUrl) {
         String url = baseUrl + "/employees";
         logger.info("Fetching all employees from {}", url);
 
         try {
+            upstreamCalls.increment();
             ResponseEntity<EmployeeApiResponse<List<Employee>>> responseEntity = restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     null,
-                    new ParameterizedTypeReference<EmployeeApiResponse<List<Employee>>>() {}
+                    EMPLOYEE_LIST_RESPONSE
             );
 
             HttpStatus statusCode = responseEntity.getStatusCode(); 
             if (!statusCode.is2xxSuccessful()) {
                 logger.error("Received non-2xx status code: {}. Falling back to default employee list.", statusCode);
-                return getDefaultEmployeeList();  // Fallback to default employee list
+                recordFallback("fetchEmployees", "status " + statusCode.value());
+                return null;
             }
 
             EmployeeApiResponse<List<Employee>> response = responseEntity.getBody();
@@ -63,22 +377,26 @@ public class EmployeeService {
                 return response.getData();
             } else {
                 logger.warn("Failed to retrieve employees. Status: {}. Falling back to default employee list.", response != null ? response.getStatus() : "null");
-                return getDefaultEmployeeList();  // Fallback to default employee list
+                recordFallback("fetchEmployees", "response status " + (response != null ? response.getStatus() : "null"));
+                return null;
             }
         } catch (ResourceAccessException e) {
             // Handle connection failures specifically
             logger.error("Connection error fetching employees: {}. Falling back to default employee list.", e.getMessage());
-            return getDefaultEmployeeList();  // Fallback to default employee list
+            recordFallback("fetchEmployees", "connection error");
+            return null;
 
         } catch (HttpStatusCodeException e) {
             // Catch any HTTP error that isn't a 2xx success response
             logger.error("HTTP error fetching employees ({}): {}. Falling back to default employee list.",
                     e.getStatusCode(), e.getMessage());
-            return getDefaultEmployeeList();  // Fallback to default employee list
+            recordFallback("fetchEmployees", "HTTP " + e.getStatusCode().value());
+            return null;
         } catch (Exception e) {
             // Handle any other exceptions
             logger.error("Error fetching employees: {}. Falling back to default employee list.", e.getMessage());
-            return getDefaultEmployeeList();  // Fallback to default employee list
+            recordFallback("fetchEmployees", e.getClass().getSimpleName());
+            return null;
         }
     }
 
@@ -86,34 +404,177 @@ public class EmployeeService {
     public List<Employee> getEmployeesByNameSearch(String searchString) {
         logger.info("Searching for employees with name containing '{}'", searchString);
 
-        // Fetch all employees
-        List<Employee> allEmployees = getAllEmployees();
-
-        // Filter employees whose name contains the search string (case insensitive)
-        List<Employee> filteredEmployees = allEmployees.stream()
-                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        // Names are indexed in lower case, so only the search string needs converting
+        List<Employee> filteredEmployees = currentIndex().searchByName(searchString);
 
         logger.debug("Found {} employees matching the search string '{}'", filteredEmployees.size(), searchString);
         return filteredEmployees;
     }
 
+    // Method to search employees by name, tolerating up to maxDistance typos per word of the search string
+    public List<Employee> getEmployeesByFuzzyNameSearch(String searchString, int maxDistance) {
+        logger.info("Fuzzy searching for employees with name within distance {} of '{}'", maxDistance, searchString);
+
+        // Candidate words come from a BK-tree over the name vocabulary instead of a distance scan of every name
+        List<Employee> matchingEmployees = withPendingWrites(
+                fuzzyNameIndex.get(currentIndex()).search(searchString, maxDistance), searchString, maxDistance);
+
+        logger.debug("Found {} employees within distance {} of '{}'", matchingEmployees.size(), maxDistance, searchString);
+        return matchingEmployees;
+    }
+
+    // Method to suggest employees whose name has a word starting with the prefix
+    public List<NameSuggestion> getNameSuggestions(String prefix, int limit) {
+        // Called on every keystroke, so this path only logs at debug level
+        logger.debug("Suggesting up to {} employee names starting with '{}'", limit, prefix);
+
+        return suggestWithPendingWrites(autocompleteIndex.get(currentIndex()), prefix, limit);
+    }
+
+    // The name indexes catch up with local writes in the background, so lay the pending creates and deletes over
+    // their results instead of rebuilding them on every write; a write's own client sees it in its next lookup
+    private List<Employee> withPendingWrites(List<Employee> matches, String searchString, int maxDistance) {
+        Set<String> deleted = writeOverlay.getDeletedIds();
+        List<Employee> created = writeOverlay.getCreatedEmployees();
+        if (deleted.isEmpty() && created.isEmpty()) {
+            return matches;
+        }
+
+        List<Employee> merged = new ArrayList<>(matches.size() + created.size());
+        Set<String> ids = new HashSet<>();
+        for (Employee employee : matches) {
+            if (!deleted.contains(employee.getId()) && ids.add(employee.getId())) {
+                merged.add(employee);
+            }
+        }
+        String[] queryWords = FuzzyNameIndex.words(searchString);
+        for (Employee employee : created) {
+            int distance = FuzzyNameIndex.distance(queryWords, employee.getEmployeeName(), maxDistance);
+            if (distance < 0 || !ids.add(employee.getId())) {
+                continue;
+            }
+            // Matches are closest first and a new employee is last in upstream order, so it goes after its ties
+            int low = 0;
+            int high = merged.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (FuzzyNameIndex.distance(queryWords, merged.get(middle).getEmployeeName(), maxDistance) <= distance) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            merged.add(low, employee);
+        }
+        return merged;
+    }
+
+    private List<NameSuggestion> suggestWithPendingWrites(NameAutocompleteIndex names, String prefix, int limit) {
+        Set<String> deleted = writeOverlay.getDeletedIds();
+        List<Employee> created = writeOverlay.getCreatedEmployees();
+        if (deleted.isEmpty() && created.isEmpty()) {
+            return names.suggest(prefix, limit);
+        }
+
+        // Ask for enough extra suggestions to make up for pending deletes among them
+        String needle = prefix.toLowerCase();
+        List<NameSuggestion> merged = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (NameSuggestion suggestion : names.suggest(prefix, limit + deleted.size())) {
+            if (!deleted.contains(suggestion.getId()) && ids.add(suggestion.getId())) {
+                merged.add(suggestion);
+            }
+        }
+        boolean added = false;
+        for (Employee employee : created) {
+            String name = employee.getEmployeeName();
+            if (name != null && NameAutocompleteIndex.matchingSuffix(name.toLowerCase(), needle) != null
+                    && ids.add(employee.getId())) {
+                merged.add(new NameSuggestion(employee.getId(), name));
+                added = true;
+            }
+        }
+        if (added) {
+            merged.sort(Comparator.comparing(
+                    suggestion -> NameAutocompleteIndex.matchingSuffix(suggestion.getEmployeeName().toLowerCase(), needle)));
+        }
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    // Method to query employees by salary and age ranges, optionally combined with a name search
+    public List<Employee> queryEmployees(EmployeeQuery query) {
+        logger.info("Querying employees with salary {} to {}, age {} to {}, name containing '{}', sort '{}', limit {}",
+                query.getMinSalary(), query.getMaxSalary(), query.getMinAge(), query.getMaxAge(),
+                query.getSearchString(), query.getSort(), query.getLimit());
+
+        // The index scans the most selective range and checks the remaining filters per candidate
+        List<Employee> employees = currentIndex().query(query);
+
+        logger.debug("Found {} employees matching the query.", employees.size());
+        return employees;
+    }
+
+    // Method to aggregate salaries by age or salary buckets, computed once per snapshot version
+    public List<SalaryAggregate> getSalaryAggregates(String groupBy, int[] boundaries) {
+        logger.info("Aggregating salaries by {} with bucket boundaries {}", groupBy, Arrays.toString(boundaries));
+
+        if (!"age".equals(groupBy) && !"salary".equals(groupBy)) {
+            throw new IllegalArgumentException("Unsupported grouping '" + groupBy + "'");
+        }
+        for (int i = 1; i < boundaries.length; i++) {
+            if (boundaries[i] <= boundaries[i - 1]) {
+                throw new IllegalArgumentException("Bucket boundaries must be strictly ascending");
+            }
+        }
+
+        EmployeeColumns columns = currentIndex().getColumns();
+        if (columns.size() == 0) {
+            logger.warn("No employees found to aggregate.");
+            return List.of();
+        }
+
+        int[] keys = "age".equals(groupBy) ? columns.getAges() : columns.getSalaries();
+        return columns.memoize("salary-by-" + groupBy + Arrays.toString(boundaries),
+                () -> SalaryAggregation.aggregate(keys, columns.getSalaries(), boundaries, ForkJoinPool.commonPool()));
+    }
+
     // Method to get an employee by ID
     public Employee getEmployeeById(String id) {
-      String url = baseUrl + "/employee/" + id;
+      String url = shards.forId(id) + "/employee/" + id;
+
+      // Our own recent writes win over an upstream that may not reflect them yet
+      Employee created = writeOverlay.getCreated(id);
+      if (created != null) {
+          logger.info("Employee with ID {} was created by this service. Answering from the local overlay.", id);
+          return created;
+      }
+      if (writeOverlay.isDeleted(id)) {
+          logger.info("Employee with ID {} was deleted by this service. Answering from the local overlay.", id);
+          return null;
+      }
+
+      // Ids that are certainly unknown get the upstream's not-found answer without the upstream call
+      if (isKnownMissing(id)) {
+          logger.info("Employee with ID {} is not known upstream. Answering from the default employee list.", id);
+          return getEmployeeFromDefaultList(id);
+      }
+
       logger.info("Fetching employee with ID {} from {}", id, url);
 
       try {
+          upstreamCalls.increment();
           ResponseEntity<EmployeeApiResponse<Employee>> responseEntity = restTemplate.exchange(
                   url,
                   HttpMethod.GET,
                   null,
-                  new ParameterizedTypeReference<EmployeeApiResponse<Employee>>() {}
+                  EMPLOYEE_RESPONSE
           );
 
           HttpStatus statusCode = responseEntity.getStatusCode();
           if (!statusCode.is2xxSuccessful()) {
               logger.error("Received non-2xx status code: {} while fetching employee with ID {}. Falling back to default employee list.", statusCode, id);
+              recordFallback("getEmployeeById", "status " + statusCode.value());
+              rememberIfNotFound(statusCode, id);
               return getEmployeeFromDefaultList(id);  // Return from default list if the response status is not successful
           }
 
@@ -124,43 +585,59 @@ public class EmployeeService {
               return response.getData();
           } else {
               logger.warn("Failed to retrieve employee with ID {}. Status: {}. Falling back to default employee list.", id, response != null ? response.getStatus() : "null");
+              recordFallback("getEmployeeById", "response status " + (response != null ? response.getStatus() : "null"));
               return getEmployeeFromDefaultList(id);  // Fallback to default list if the API call fails
           }
 
       } catch (ResourceAccessException e) {
           // Handle connection failures specifically
           logger.error("Connection error fetching employee with ID {}: {}. Falling back to default employee list.", id, e.getMessage());
+          recordFallback("getEmployeeById", "connection error");
           return getEmployeeFromDefaultList(id);  // Fallback to default list in case of connection issues
 
       } catch (HttpStatusCodeException e) {
           // Catch any HTTP error that isn't a 2xx success response
           logger.error("HTTP error fetching employee with ID {} ({}): {}. Falling back to default employee list.", id, e.getStatusCode(), e.getMessage());
+          recordFallback("getEmployeeById", "HTTP " + e.getStatusCode().value());
+          rememberIfNotFound(e.getStatusCode(), id);
           return getEmployeeFromDefaultList(id);  // Fallback to default list in case of HTTP errors
 
       } catch (Exception e) {
           // Handle any other exceptions
           logger.error("Error fetching employee with ID {}: {}. Falling back to default employee list.", id, e.getMessage());
+          recordFallback("getEmployeeById", e.getClass().getSimpleName());
           return getEmployeeFromDefaultList(id);  // Fallback to default list in case of any other exceptions
       }
     }
 
+    // An id is certainly unknown if a real upstream snapshot rules it out or the upstream recently answered 404
+    private boolean isKnownMissing(String id) {
+        if (index.isLoaded() && !index.isFallback() && !index.mightContain(id)) {
+            unknownIds.countBloomHit();
+            return true;
+        }
+        return unknownIds.contains(id);
+    }
+
+    private void rememberIfNotFound(HttpStatus statusCode, String id) {
+        if (statusCode == HttpStatus.NOT_FOUND) {
+            unknownIds.put(id);
+        }
+    }
+
     // Method to get the highest salary of employees
     public int getHighestSalaryOfEmployees() {
         logger.info("Fetching the highest salary of employees.");
 
-        // Fetch all employees
-        List<Employee> allEmployees = getAllEmployees();
+        EmployeeIndex employees = currentIndex();
 
-        if (allEmployees.isEmpty()) {
+        if (employees.size() == 0) {
             logger.warn("No employees found to determine the highest salary. Returning 0.");
             return 0;  // Return 0 if no employees are available
         }
 
-        // Find the employee with the highest salary
-        int highestSalary = allEmployees.stream()
-                .mapToInt(employee -> Integer.parseInt(employee.getEmployeeSalary()))
-                .max()
-                .orElse(0);  // Default to 0 if no employees are available
+        // The salary order is maintained by the index, so the highest salary is its first entry
+        int highestSalary = employees.getHighestSalary();
 
         logger.info("The highest salary of employees is {}", highestSalary);
         return highestSalary;
@@ -170,20 +647,16 @@ public class EmployeeService {
     public List<String> getTop10HighestEarningEmployeeNames() {
         logger.info("Fetching the top 10 highest earning employee names.");
 
-        // Fetch all employees
-        List<Employee> allEmployees = getAllEmployees();
+        EmployeeIndex employees = currentIndex();
 
-        if (allEmployees.isEmpty()) {
+        if (employees.size() == 0) {
             logger.warn("No employees found to determine the top 10 highest earners.");
             return List.of();  // Return an empty list if no employees are available
         }
 
-        // Sort employees by salary in descending order and get the top 10
-        List<String> top10EmployeeNames = allEmployees.stream()
-                .sorted((e1, e2) -> Integer.compare(Integer.parseInt(e2.getEmployeeSalary()), Integer.parseInt(e1.getEmployeeSalary())))
-                .limit(10)
-                .map(Employee::getEmployeeName)
-                .collect(Collectors.toList());
+        // Walk the head of the salary order instead of sorting every employee
+        List<String> top10EmployeeNames = new ArrayList<>(10);
+        employees.getTopEarners(10).forEach(employee -> top10EmployeeNames.add(employee.getEmployeeName()));
 
         logger.info("Returning the top 10 highest earning employee names: {}", top10EmployeeNames);
         return top10EmployeeNames;
@@ -191,108 +664,166 @@ public class EmployeeService {
 
     // Method to create an employee
     public String createEmployee(CreateEmployeeRequest request) {
-        String url = baseUrl + "/create";
+        String url = shards.forCreate() + "/create";
         logger.info("Creating new employee with name: {}, salary: {}, age: {}", request.getName(), request.getSalary(), request.getAge());
 
         try {
             HttpEntity<CreateEmployeeRequest> requestEntity = new HttpEntity<>(request);
+            upstreamCalls.increment();
             ResponseEntity<EmployeeApiResponse<CreateEmployeeResponse>> responseEntity = restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     requestEntity,
-                    new ParameterizedTypeReference<EmployeeApiResponse<CreateEmployeeResponse>>() {}
+                    CREATE_RESPONSE
             );
 
             HttpStatus statusCode = responseEntity.getStatusCode();
             if (!statusCode.is2xxSuccessful()) {
                 logger.error("Received non-2xx status code: {} while creating employee. Returning default response.", statusCode);
+                recordFallback("createEmployee", "status " + statusCode.value());
                 return getDefaultCreateEmployeeResponse(request);  // Return default response if status is not successful
             }
 
             EmployeeApiResponse<CreateEmployeeResponse> response = responseEntity.getBody();
             if (response != null && "success".equalsIgnoreCase(response.getStatus())) {
                 logger.debug("Successfully created employee: {}", response.getData());
+                onEmployeeCreated(request, response.getData());
                 return "success";
             } else {
                 logger.warn("Failed to create employee. Status: {}", response != null ? response.getStatus() : "null");
+                recordFallback("createEmployee", "response status " + (response != null ? response.getStatus() : "null"));
                 return getDefaultCreateEmployeeResponse(request);  // Return default response on failure
             }
 
         } catch (ResourceAccessException e) {
             // Handle connection failures specifically
             logger.error("Connection error creating employee: {}. Returning default response.", e.getMessage());
+            recordFallback("createEmployee", "connection error");
             return getDefaultCreateEmployeeResponse(request);
 
         } catch (HttpStatusCodeException e) {
             // Catch any HTTP error that isn't a 2xx success response
             logger.error("HTTP error creating employee ({}): {}. Returning default response.", e.getStatusCode(), e.getMessage());
+            recordFallback("createEmployee", "HTTP " + e.getStatusCode().value());
             return getDefaultCreateEmployeeResponse(request);
 
         } catch (Exception e) {
             // Handle any other exceptions
             logger.error("Error creating employee: {}. Returning default response.", e.getMessage());
+            recordFallback("createEmployee", e.getClass().getSimpleName());
             return getDefaultCreateEmployeeResponse(request);
         }
     }
 
     // Method to delete an employee by ID
     public String deleteEmployee(String id) {
-        String url = baseUrl + "/delete/" + id;
+        String url = shards.forId(id) + "/delete/" + id;
         logger.info("Deleting employee with ID: {}", id);
 
         Employee employee = null; // Initialize employee to null
 
         try {
-            // Fetch the employee to get their name before deletion
-            employee = getEmployeeById(id);
+            // Look up the employee to get their name before deletion
+            employee = findEmployeeToDelete(id);
             if (employee == null) {
                 logger.warn("Employee with ID: {} not found, deletion aborted.", id);
                 return "Employee with ID " + id + " not found, deletion aborted.";  // Return message if employee not found
             }
 
             // Perform the delete request
+            upstreamCalls.increment();
             ResponseEntity<EmployeeApiResponse<String>> responseEntity = restTemplate.exchange(
                     url,
                     HttpMethod.DELETE,
                     null,
-                    new ParameterizedTypeReference<EmployeeApiResponse<String>>() {}
+                    DELETE_RESPONSE
             );
 
             HttpStatus statusCode = responseEntity.getStatusCode();
             if (!statusCode.is2xxSuccessful()) {
                 logger.error("Received non-2xx status code: {} while deleting employee with ID: {}.", statusCode, id);
+                recordFallback("deleteEmployee", "status " + statusCode.value());
                 return getDefaultDeleteEmployeeResponse(employee);  // Return default response if status is not successful
             }
 
             EmployeeApiResponse<String> response = responseEntity.getBody();
             if (response != null && "success".equalsIgnoreCase(response.getStatus())) {
                 logger.info("Successfully deleted employee with ID: {}, Name: {}", id, employee.getEmployeeName());
+                onEmployeeDeleted(employee);
                 return employee.getEmployeeName();  // Return the employee name on successful deletion
             } else {
                 logger.warn("Failed to delete employee with ID: {}. Status: {}", id, response != null ? response.getStatus() : "null");
+                recordFallback("deleteEmployee", "response status " + (response != null ? response.getStatus() : "null"));
                 return getDefaultDeleteEmployeeResponse(employee);  // Return default response on failure
             }
 
         } catch (ResourceAccessException e) {
             // Handle connection failures specifically
             logger.error("Connection error deleting employee with ID: {}. Returning default response.", id);
+            recordFallback("deleteEmployee", "connection error");
             return employee != null ? getDefaultDeleteEmployeeResponse(employee) : "Connection error while deleting employee with ID " + id;
 
         } catch (HttpStatusCodeException e) {
             // Catch any HTTP error that isn't a 2xx success response
             logger.error("HTTP error deleting employee with ID: {} ({}): {}. Returning default response.", id, e.getStatusCode(), e.getMessage());
+            recordFallback("deleteEmployee", "HTTP " + e.getStatusCode().value());
             return employee != null ? getDefaultDeleteEmployeeResponse(employee) : "HTTP error while deleting employee with ID " + id;
 
         } catch (Exception e) {
             // Handle any other exceptions
             logger.error("Error deleting employee with ID: {}. Returning default response.", id, e.getMessage());
+            recordFallback("deleteEmployee", e.getClass().getSimpleName());
             return employee != null ? getDefaultDeleteEmployeeResponse(employee) : "Error while deleting employee with ID " + id;
         }
     }
 
+    // The snapshot already holds every listed employee, so the upstream is only asked for ids it does not know
+    private Employee findEmployeeToDelete(String id) {
+        if (index.isLoaded() && !index.isFallback()) {
+            Employee employee = index.get(id);
+            if (employee != null) {
+                return employee;
+            }
+        }
+        return getEmployeeById(id);
+    }
+
+    // Record a confirmed create in the overlay and the snapshot, and publish it to the change feed
+    private void onEmployeeCreated(CreateEmployeeRequest request, CreateEmployeeResponse created) {
+        if (created == null || created.getId() == null) {
+            return;
+        }
+        Employee employee = new Employee(created.getId(), request.getName(), request.getSalary(), request.getAge(), "");
+        unknownIds.remove(employee.getId());
+        synchronized (writeLock) {
+            writeOverlay.created(employee);
+            if (index.isLoaded()) {
+                index.put(employee);
+            }
+        }
+        changeFeed.publish(EmployeeChangeEvent.ADDED, employee);
+    }
+
+    // Record a confirmed delete in the overlay and the snapshot, and publish it to the change feed
+    private void onEmployeeDeleted(Employee employee) {
+        synchronized (writeLock) {
+            writeOverlay.deleted(employee.getId());
+            if (index.isLoaded()) {
+                index.remove(employee.getId());
+            }
+        }
+        changeFeed.publish(EmployeeChangeEvent.REMOVED, employee);
+    }
+
     // Setter for baseUrl (for testing purposes)
     public void setBaseUrl(String baseUrl) {
-        this.baseUrl = baseUrl;
+        this.shards = UpstreamShards.single(baseUrl);
+    }
+
+    // Count a fallback for the readiness check and record it for Flight Recorder
+    private void recordFallback(String operation, String reason) {
+        fallbacks.increment();
+        FallbackEvent.record(operation, reason);
     }
 
     // Provide a hardcoded "good" response
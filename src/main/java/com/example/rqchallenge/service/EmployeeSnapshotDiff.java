@@ -0,0 +1,41 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.util.List;
+
+/**
+ * Difference between two employee snapshots, keyed by employee id.
+ */
+public class EmployeeSnapshotDiff {
+
+    private final List<Employee> added;
+    private final List<Employee> removed;
+    private final List<Employee> updated;
+
+    public EmployeeSnapshotDiff(List<Employee> added, List<Employee> removed, List<Employee> updated) {
+        this.added = added;
+        this.removed = removed;
+        this.updated = updated;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && updated.isEmpty();
+    }
+
+    public int size() {
+        return added.size() + removed.size() + updated.size();
+    }
+
+    public List<Employee> getAdded() {
+        return added;
+    }
+
+    public List<Employee> getRemoved() {
+        return removed;
+    }
+
+    public List<Employee> getUpdated() {
+        return updated;
+    }
+}
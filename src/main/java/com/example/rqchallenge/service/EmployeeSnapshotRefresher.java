@@ -0,0 +1,28 @@
+package com.example.rqchallenge.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically re-fetches the employee list so the cached snapshot stays fresh and changes reach the change feed.
+ * Nothing injects this bean, so it opts out of lazy initialization (the fast-start profile) to keep its schedule.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "employees.snapshot.refresh-enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeSnapshotRefresher {
+
+    private final EmployeeService employeeService;
+
+    public EmployeeSnapshotRefresher(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Scheduled(initialDelayString = "${employees.snapshot.refresh-interval-ms:60000}",
+            fixedDelayString = "${employees.snapshot.refresh-interval-ms:60000}")
+    public void refresh() {
+        employeeService.refreshEmployees();
+    }
+}
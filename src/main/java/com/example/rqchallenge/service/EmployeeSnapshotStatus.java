@@ -0,0 +1,73 @@
+package com.example.rqchallenge.service;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time description of the employee snapshot and of the upstream calls made so far, read without
+ * loading the snapshot or calling the upstream.
+ */
+public class EmployeeSnapshotStatus {
+
+    private final boolean loaded;
+    private final boolean fallback;
+    private final int employees;
+    private final int pendingWrites;
+    private final Instant upstreamLoadedAt;  // null until a snapshot has been fetched from the upstream
+    private final long upstreamCalls;
+    private final long fallbacks;
+    private final String source;  // Replica the snapshot was loaded from, null if loaded from the upstream
+
+    public EmployeeSnapshotStatus(boolean loaded, boolean fallback, int employees, int pendingWrites,
+                                  Instant upstreamLoadedAt, long upstreamCalls, long fallbacks) {
+        this(loaded, fallback, employees, pendingWrites, upstreamLoadedAt, upstreamCalls, fallbacks, null);
+    }
+
+    public EmployeeSnapshotStatus(boolean loaded, boolean fallback, int employees, int pendingWrites,
+                                  Instant upstreamLoadedAt, long upstreamCalls, long fallbacks, String source) {
+        this.loaded = loaded;
+        this.fallback = fallback;
+        this.employees = employees;
+        this.pendingWrites = pendingWrites;
+        this.upstreamLoadedAt = upstreamLoadedAt;
+        this.upstreamCalls = upstreamCalls;
+        this.fallbacks = fallbacks;
+        this.source = source;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Whether the snapshot is the built-in default list, i.e. no upstream snapshot has been loaded yet
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    // Last time a snapshot was fetched from the upstream, by this or another replica; local writes and failed
+    // refreshes do not move it
+    public Instant getUpstreamLoadedAt() {
+        return upstreamLoadedAt;
+    }
+
+    // Upstream calls attempted since start-up
+    public long getUpstreamCalls() {
+        return upstreamCalls;
+    }
+
+    // Upstream calls since start-up that were answered with a fallback instead
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
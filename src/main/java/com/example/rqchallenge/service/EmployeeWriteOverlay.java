@@ -0,0 +1,135 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates and deletes confirmed by the upstream but not yet seen in an upstream snapshot. They are laid over
+ * every snapshot the service loads, so a client reading right after its own write sees it. A write is forgotten
+ * once a snapshot reflects it, or after a TTL if the upstream never does.
+ */
+class EmployeeWriteOverlay {
+
+    private final long ttlNanos;
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+
+    EmployeeWriteOverlay(long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    synchronized void created(Employee employee) {
+        pending.put(employee.getId(), new PendingWrite(employee, System.nanoTime()));
+    }
+
+    synchronized void deleted(String id) {
+        pending.put(id, new PendingWrite(null, System.nanoTime()));
+    }
+
+    // The employee created by a pending write, or null if the id has no pending create
+    synchronized Employee getCreated(String id) {
+        PendingWrite write = pending.get(id);
+        return write != null ? write.employee : null;
+    }
+
+    synchronized boolean isDeleted(String id) {
+        PendingWrite write = pending.get(id);
+        return write != null && write.employee == null;
+    }
+
+    // Employees of the pending creates, oldest first
+    synchronized List<Employee> getCreatedEmployees() {
+        List<Employee> created = new ArrayList<>();
+        pending.values().forEach(write -> {
+            if (write.employee != null) {
+                created.add(write.employee);
+            }
+        });
+        return created;
+    }
+
+    synchronized Set<String> getDeletedIds() {
+        Set<String> deleted = new HashSet<>();
+        pending.forEach((id, write) -> {
+            if (write.employee == null) {
+                deleted.add(id);
+            }
+        });
+        return deleted;
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * Forget the writes an upstream snapshot already reflects (created ids present, deleted ids absent) or that
+     * have outlived the TTL, then lay the rest over the snapshot.
+     */
+    synchronized List<Employee> reconcile(List<Employee> upstream) {
+        if (pending.isEmpty()) {
+            return upstream;
+        }
+
+        Set<String> present = new HashSet<>();
+        for (Employee employee : upstream) {
+            if (pending.containsKey(employee.getId())) {
+                present.add(employee.getId());
+            }
+        }
+
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, PendingWrite>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingWrite> entry = iterator.next();
+            boolean reflected = present.contains(entry.getKey()) == (entry.getValue().employee != null);
+            if (reflected || now - entry.getValue().recordedAt >= ttlNanos) {
+                iterator.remove();
+            }
+        }
+        return applyTo(upstream);
+    }
+
+    // Lay the pending writes over a list without forgetting any, e.g. over the default list when the upstream is down
+    synchronized List<Employee> applyTo(List<Employee> employees) {
+        if (pending.isEmpty()) {
+            return employees;
+        }
+
+        List<Employee> merged = new ArrayList<>(employees.size() + pending.size());
+        Set<String> replaced = new HashSet<>();
+        for (Employee employee : employees) {
+            PendingWrite write = pending.get(employee.getId());
+            if (write == null) {
+                merged.add(employee);
+            } else if (write.employee != null) {
+                merged.add(write.employee);
+                replaced.add(employee.getId());
+            }
+        }
+        // Creates the list does not have yet go last, as the upstream appends new employees
+        pending.forEach((id, write) -> {
+            if (write.employee != null && !replaced.contains(id)) {
+                merged.add(write.employee);
+            }
+        });
+        return merged;
+    }
+
+    private static class PendingWrite {
+
+        private final Employee employee;  // null for a delete
+        private final long recordedAt;
+
+        PendingWrite(Employee employee, long recordedAt) {
+            this.employee = employee;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Typo-tolerant name search. The distinct lower-cased words of all names are kept in a BK-tree keyed by
+ * Levenshtein distance, so a lookup computes distances for a small part of the vocabulary instead of for every
+ * word of every employee; matching words are then expanded to the employees whose names contain them.
+ */
+public class FuzzyNameIndex {
+
+    private final List<Employee> employees;
+    private final Map<String, Postings> employeesByWord;
+    private final Node root;
+
+    private FuzzyNameIndex(List<Employee> employees, Map<String, Postings> employeesByWord, Node root) {
+        this.employees = employees;
+        this.employeesByWord = employeesByWord;
+        this.root = root;
+    }
+
+    public static FuzzyNameIndex build(List<Employee> employees) {
+        Map<String, Postings> employeesByWord = new HashMap<>();
+        for (int position = 0; position < employees.size(); position++) {
+            String name = employees.get(position).getEmployeeName();
+            for (String word : words(name)) {
+                employeesByWord.computeIfAbsent(word, key -> new Postings()).add(position);
+            }
+        }
+
+        Node root = null;
+        for (String word : employeesByWord.keySet()) {
+            if (root == null) {
+                root = new Node(word);
+            } else {
+                root.insert(word);
+            }
+        }
+        return new FuzzyNameIndex(employees, employeesByWord, root);
+    }
+
+    /**
+     * Employees whose name has, for every word of the query, a word within the edit distance.
+     *
+     * @param query       The possibly misspelled name or name fragment.
+     * @param maxDistance The largest Levenshtein distance accepted per query word.
+     * @return Matching employees, closest first (summed over the query words), ties in upstream order.
+     */
+    public List<Employee> search(String query, int maxDistance) {
+        String[] queryWords = words(query);
+        if (queryWords.length == 0 || root == null) {
+            return List.of();
+        }
+
+        // Employee position -> summed distance, narrowed to employees matching every query word so far
+        Map<Integer, Integer> distances = null;
+        for (String queryWord : queryWords) {
+            Map<Integer, Integer> wordDistances = new HashMap<>();
+            root.search(queryWord, maxDistance, (word, distance) ->
+                    employeesByWord.get(word).forEach(position -> wordDistances.merge(position, distance, Math::min)));
+
+            if (distances == null) {
+                distances = wordDistances;
+            } else {
+                Iterator<Map.Entry<Integer, Integer>> iterator = distances.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Integer, Integer> entry = iterator.next();
+                    Integer distance = wordDistances.get(entry.getKey());
+                    if (distance == null) {
+                        iterator.remove();
+                    } else {
+                        entry.setValue(entry.getValue() + distance);
+                    }
+                }
+            }
+            if (distances.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(distances.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        List<Employee> matches = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> matches.add(employees.get(entry.getKey())));
+        return matches;
+    }
+
+    /**
+     * The distance search ranks a name by, computed directly for a single name: the closest name word for every
+     * query word, summed.
+     *
+     * @return The summed distance, or -1 if some query word has no name word within the edit distance.
+     */
+    static int distance(String[] queryWords, String name, int maxDistance) {
+        String[] nameWords = words(name);
+        if (queryWords.length == 0 || nameWords.length == 0) {
+            return -1;
+        }
+        int total = 0;
+        for (String queryWord : queryWords) {
+            int closest = Integer.MAX_VALUE;
+            for (String nameWord : nameWords) {
+                closest = Math.min(closest, editDistance(queryWord, nameWord));
+            }
+            if (closest > maxDistance) {
+                return -1;
+            }
+            total += closest;
+        }
+        return total;
+    }
+
+    /**
+     * Levenshtein distance: the fewest single-character insertions, deletions and substitutions that turn one
+     * string into the other.
+     */
+    public static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char aChar = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (aChar == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    // Lower-cased words of a name or query
+    static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return text.toLowerCase().strip().split("\\s+");
+    }
+
+    @FunctionalInterface
+    private interface MatchConsumer {
+
+        void accept(String word, int distance);
+    }
+
+    // Children are keyed by their distance to this node's word
+    private static class Node {
+
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        void insert(String newWord) {
+            Node node = this;
+            while (true) {
+                int distance = editDistance(newWord, node.word);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(newWord));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        // By the triangle inequality only children at distance d - k to d + k can hold words within k of the query
+        void search(String query, int maxDistance, MatchConsumer consumer) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int distance = editDistance(query, node.word);
+                if (distance <= maxDistance) {
+                    consumer.accept(node.word, distance);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        pending.push(child.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    // Positions of the employees whose name contains a word, in upstream order
+    private static class Postings {
+
+        private int[] positions = new int[2];
+        private int size;
+
+        void add(int position) {
+            // A name repeating a word is only recorded once
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        void forEach(IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(positions[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.NameSuggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prefix lookup over employee names for type-ahead.
+ *
+ * Every word of every name is a token, so "nix" finds "Tiger Nixon". Tokens are not stored as strings: each is
+ * a position (employee, offset into the lower-cased name) in two int arrays sorted by the text from that offset
+ * on. A lookup is a binary search for the first token at or after the prefix followed by a scan while tokens
+ * still start with it.
+ *
+ * Ids and names are those the snapshot already holds: id keys (a Long for a plain numeric id) and pooled names
+ * with their lower-cased form, so a rebuild copies references rather than strings. Id strings are only created
+ * for the suggestions returned.
+ */
+public class NameAutocompleteIndex {
+
+    private final Object[] ids;
+    private final EmployeeNamePool.Name[] names;
+    private final int[] tokenEmployees;
+    private final int[] tokenOffsets;
+
+    private NameAutocompleteIndex(Object[] ids, EmployeeNamePool.Name[] names, int[] tokenEmployees,
+                                  int[] tokenOffsets) {
+        this.ids = ids;
+        this.names = names;
+        this.tokenEmployees = tokenEmployees;
+        this.tokenOffsets = tokenOffsets;
+    }
+
+    public static NameAutocompleteIndex build(EmployeeIndex employees) {
+        List<Object> idList = new ArrayList<>(employees.size());
+        List<EmployeeNamePool.Name> nameList = new ArrayList<>(employees.size());
+        employees.forEachName((id, name) -> {
+            idList.add(id);
+            nameList.add(name);
+        });
+        Object[] ids = idList.toArray();
+        EmployeeNamePool.Name[] names = nameList.toArray(new EmployeeNamePool.Name[0]);
+        List<int[]> tokens = new ArrayList<>(names.length * 2);
+
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].lowerCase;
+            for (int offset = 0; offset < name.length(); offset++) {
+                boolean wordStart = offset == 0 || Character.isWhitespace(name.charAt(offset - 1));
+                if (wordStart && !Character.isWhitespace(name.charAt(offset))) {
+                    tokens.add(new int[]{i, offset});
+                }
+            }
+        }
+
+        tokens.sort((a, b) -> compareSuffixes(names[a[0]].lowerCase, a[1], names[b[0]].lowerCase, b[1]));
+
+        int[] tokenEmployees = new int[tokens.size()];
+        int[] tokenOffsets = new int[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            tokenEmployees[i] = tokens.get(i)[0];
+            tokenOffsets[i] = tokens.get(i)[1];
+        }
+        return new NameAutocompleteIndex(ids, names, tokenEmployees, tokenOffsets);
+    }
+
+    /**
+     * Employees with a name word starting with the prefix, case insensitive, ordered by the matching word.
+     *
+     * @param prefix The prefix typed so far.
+     * @param limit  The maximum number of suggestions.
+     * @return Up to limit suggestions, each employee at most once.
+     */
+    public List<NameSuggestion> suggest(String prefix, int limit) {
+        String needle = prefix.toLowerCase();
+        List<NameSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        int[] seen = new int[Math.min(limit, tokenEmployees.length)];
+
+        for (int token = firstAtOrAfter(needle); token < tokenEmployees.length && suggestions.size() < limit; token++) {
+            int employee = tokenEmployees[token];
+            if (!names[employee].lowerCase.startsWith(needle, tokenOffsets[token])) {
+                break;
+            }
+            // An employee matches once per word starting with the prefix; limits are small, so scan the suggestions
+            boolean duplicate = false;
+            for (int i = 0; i < suggestions.size(); i++) {
+                if (seen[i] == employee) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                seen[suggestions.size()] = employee;
+                suggestions.add(new NameSuggestion(ids[employee].toString(), names[employee].value));
+            }
+        }
+        return suggestions;
+    }
+
+    // The rest of the name from its first-sorting word that starts with the prefix, which is what orders the
+    // suggestions; null if no word does
+    static String matchingSuffix(String lowerCaseName, String needle) {
+        String match = null;
+        for (int offset = 0; offset < lowerCaseName.length(); offset++) {
+            boolean wordStart = offset == 0 || Character.isWhitespace(lowerCaseName.charAt(offset - 1));
+            if (wordStart && !Character.isWhitespace(lowerCaseName.charAt(offset))
+                    && lowerCaseName.startsWith(needle, offset)
+                    && (match == null || compareSuffixes(lowerCaseName, offset, match, 0) < 0)) {
+                match = lowerCaseName.substring(offset);
+            }
+        }
+        return match;
+    }
+
+    // Binary search for the first token whose text is not less than the prefix
+    private int firstAtOrAfter(String prefix) {
+        int low = 0;
+        int high = tokenEmployees.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareSuffixes(names[tokenEmployees[middle]].lowerCase, tokenOffsets[middle], prefix, 0) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Compare a.substring(aOffset) with b.substring(bOffset) without creating either substring
+    private static int compareSuffixes(String a, int aOffset, String b, int bOffset) {
+        int aLength = a.length() - aOffset;
+        int bLength = b.length() - bOffset;
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            char aChar = a.charAt(aOffset + i);
+            char bChar = b.charAt(bOffset + i);
+            if (aChar != bChar) {
+                return aChar - bChar;
+            }
+        }
+        return aLength - bLength;
+    }
+}
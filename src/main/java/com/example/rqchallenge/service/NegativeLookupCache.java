@@ -0,0 +1,83 @@
+package com.example.rqchallenge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employee ids the upstream recently answered 404 for, remembered for a short time so repeated lookups of bad
+ * ids are answered locally. Also counts lookups answered locally, as
+ * {@code employees.lookup.negative{source=cache|bloom}}.
+ */
+@Component
+public class NegativeLookupCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter bloomHits;
+
+    @Autowired
+    public NegativeLookupCache(@Value("${employees.unknown-ids.ttl-ms:30000}") long ttlMillis,
+                               @Value("${employees.unknown-ids.max-size:10000}") int maxSize,
+                               MeterRegistry meterRegistry) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxSize = maxSize;
+        this.cacheHits = Counter.builder("employees.lookup.negative")
+                .description("Employee lookups answered locally as unknown ids")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.bloomHits = Counter.builder("employees.lookup.negative")
+                .description("Employee lookups answered locally as unknown ids")
+                .tag("source", "bloom")
+                .register(meterRegistry);
+        meterRegistry.gauge("employees.lookup.negative.cached", expiries, Map::size);
+    }
+
+    // Whether the upstream answered 404 for the id within the TTL; counts a hit if so
+    public boolean contains(String id) {
+        Long expiry = expiries.get(id);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() < 0) {
+            expiries.remove(id, expiry);
+            return false;
+        }
+        cacheHits.increment();
+        return true;
+    }
+
+    public void put(String id) {
+        long now = System.nanoTime();
+        if (expiries.size() >= maxSize) {
+            expiries.values().removeIf(expiry -> expiry - now < 0);
+            if (expiries.size() >= maxSize) {
+                return;  // Full of live entries; a scan of random ids should not grow this without bound
+            }
+        }
+        expiries.put(id, now + ttlNanos);
+    }
+
+    // Drop an id that has since become known, e.g. through a create or a refresh
+    public void remove(String id) {
+        expiries.remove(id);
+    }
+
+    public void clear() {
+        expiries.clear();
+    }
+
+    // Count a lookup answered locally because the snapshot's Bloom filter rules the id out
+    public void countBloomHit() {
+        bloomHits.increment();
+    }
+}
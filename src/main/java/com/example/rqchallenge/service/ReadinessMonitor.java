@@ -0,0 +1,232 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.ReadinessResponse;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the readiness checks on a schedule and keeps the last result, so health polling is answered from memory
+ * and never causes upstream traffic. The upstream check only opens (and closes) a TCP connection to each upstream
+ * shard; everything else is read from the snapshot, the upstream call counts and the connection pool. The one
+ * exception is the first check, which loads the snapshot if no request has done so yet.
+ *
+ * Only problems local to this instance make it DOWN: no snapshot loaded at all, a saturated connection pool or
+ * Spring Boot not yet accepting traffic (e.g. during the warm-up). Upstream trouble makes it DEGRADED but still
+ * ready, since every instance shares the upstream and a stale snapshot beats taking them all out. That includes
+ * serving the default list because the upstream failed before any snapshot could be loaded.
+ *
+ * Created eagerly even under lazy initialization, so the checks run before anything asks for the result.
+ */
+@Component
+@Lazy(false)
+public class ReadinessMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadinessMonitor.class);
+
+    public static final String UP = "UP";
+    public static final String DEGRADED = "DEGRADED";
+    public static final String DOWN = "DOWN";
+
+    private final EmployeeService employeeService;
+    private final ObjectProvider<PoolingHttpClientConnectionManager> connectionManager;
+    private final ApplicationAvailability availability;
+    private final List<String> upstreamUrls;
+    private final int probeTimeoutMillis;
+    private final Duration maxSnapshotAge;
+    private final double maxFallbackRate;
+
+    private volatile ReadinessResponse last;
+    private long previousUpstreamCalls;
+    private long previousFallbacks;
+
+    @Autowired
+    public ReadinessMonitor(EmployeeService employeeService,
+                            ObjectProvider<PoolingHttpClientConnectionManager> connectionManager,
+                            ApplicationAvailability availability,
+                            UpstreamShards shards,
+                            @Value("${health.readiness.probe-timeout-ms:1000}") int probeTimeoutMillis,
+                            @Value("${health.readiness.max-snapshot-age-ms:600000}") long maxSnapshotAgeMillis,
+                            @Value("${health.readiness.max-fallback-rate:0.5}") double maxFallbackRate) {
+        this.employeeService = employeeService;
+        this.connectionManager = connectionManager;
+        this.availability = availability;
+        this.upstreamUrls = shards.getBaseUrls();
+        this.probeTimeoutMillis = probeTimeoutMillis;
+        this.maxSnapshotAge = Duration.ofMillis(maxSnapshotAgeMillis);
+        this.maxFallbackRate = maxFallbackRate;
+
+        ReadinessResponse initial = new ReadinessResponse();
+        initial.setStatus(DOWN);
+        initial.setTimestamp(now());
+        initial.getReasons().add("Readiness has not been checked yet");
+        this.last = initial;
+    }
+
+    /**
+     * The last check result. Only whether Spring Boot accepts traffic is looked up on each call, as it is a
+     * field read and changes at moments the schedule would otherwise miss.
+     */
+    public ReadinessResponse getReadiness() {
+        ReadinessResponse readiness = last;
+        if (availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC || DOWN.equals(readiness.getStatus())) {
+            return readiness;
+        }
+        ReadinessResponse starting = copyOf(readiness);
+        starting.setStatus(DOWN);
+        starting.getReasons().add(0, "Application is not accepting traffic yet");
+        return starting;
+    }
+
+    // Method to run every check and replace the cached result
+    @Scheduled(fixedDelayString = "${health.readiness.check-interval-ms:10000}")
+    public synchronized void check() {
+        ReadinessResponse readiness = new ReadinessResponse();
+        readiness.setTimestamp(now());
+        List<String> down = new ArrayList<>();
+        List<String> degraded = new ArrayList<>();
+
+        if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            down.add("Application is not accepting traffic yet");
+        }
+
+        // With several shards, the slowest connect counts and any unreachable shard makes the upstream unreachable
+        Long connectMillis = null;
+        List<String> unreachable = new ArrayList<>();
+        for (String upstreamUrl : upstreamUrls) {
+            Long millis = probeUpstream(upstreamUrl);
+            if (millis == null) {
+                unreachable.add(upstreamUrl);
+            } else if (connectMillis == null || millis > connectMillis) {
+                connectMillis = millis;
+            }
+        }
+        readiness.setUpstreamReachable(unreachable.isEmpty());
+        readiness.setUpstreamConnectMillis(unreachable.isEmpty() ? connectMillis : null);
+        if (unreachable.size() == upstreamUrls.size()) {
+            degraded.add("Upstream is unreachable");
+        } else if (!unreachable.isEmpty()) {
+            degraded.add("Upstream shards are unreachable: " + String.join(", ", unreachable));
+        }
+
+        EmployeeSnapshotStatus snapshot = employeeService.getSnapshotStatus();
+        if (!snapshot.isLoaded()) {
+            // Load here rather than on the first request, which a load balancer would never send while this is DOWN
+            try {
+                employeeService.preload();
+            } catch (RuntimeException e) {
+                logger.warn("Readiness check could not load the employee snapshot.", e);
+            }
+            snapshot = employeeService.getSnapshotStatus();
+        }
+        readiness.setSnapshotLoaded(snapshot.isLoaded());
+        readiness.setSnapshotFallback(snapshot.isFallback());
+        readiness.setSnapshotEmployees(snapshot.getEmployees());
+        readiness.setSnapshotSource(snapshot.getSource() != null ? snapshot.getSource() : "upstream");
+        readiness.setPendingWrites(snapshot.getPendingWrites());
+        if (!snapshot.isLoaded()) {
+            down.add("Employee snapshot is not loaded");
+        } else if (snapshot.isFallback()) {
+            // Only served when the upstream failed, which every instance sees alike
+            degraded.add("Serving the default employee list, no upstream snapshot loaded yet");
+        }
+        if (snapshot.getUpstreamLoadedAt() != null) {
+            Duration age = Duration.between(snapshot.getUpstreamLoadedAt(), Instant.now());
+            readiness.setSnapshotAgeSeconds(age.getSeconds());
+            if (age.compareTo(maxSnapshotAge) > 0) {
+                degraded.add("Employee snapshot is " + age.getSeconds() + "s old");
+            }
+        }
+
+        // Rate over the calls since the previous check, so an old outage does not linger in the figure
+        long calls = snapshot.getUpstreamCalls() - previousUpstreamCalls;
+        long fallbacks = snapshot.getFallbacks() - previousFallbacks;
+        previousUpstreamCalls = snapshot.getUpstreamCalls();
+        previousFallbacks = snapshot.getFallbacks();
+        double fallbackRate = calls > 0 ? (double) fallbacks / calls : 0;
+        readiness.setFallbackRate(fallbackRate);
+        if (fallbackRate > maxFallbackRate) {
+            degraded.add(String.format("%.0f%% of upstream calls fell back", fallbackRate * 100));
+        }
+
+        PoolingHttpClientConnectionManager pool = connectionManager.getIfAvailable();
+        if (pool != null) {
+            PoolStats stats = pool.getTotalStats();
+            readiness.setPoolLeased(stats.getLeased());
+            readiness.setPoolMax(stats.getMax());
+            readiness.setPoolPending(stats.getPending());
+            if (stats.getLeased() >= stats.getMax() && stats.getPending() > 0) {
+                down.add("Upstream connection pool is saturated with " + stats.getPending() + " requests waiting");
+            }
+        }
+
+        readiness.setStatus(!down.isEmpty() ? DOWN : !degraded.isEmpty() ? DEGRADED : UP);
+        readiness.getReasons().addAll(down);
+        readiness.getReasons().addAll(degraded);
+        if (!readiness.getStatus().equals(last.getStatus())) {
+            logger.info("Readiness changed from {} to {}: {}", last.getStatus(), readiness.getStatus(), readiness.getReasons());
+        }
+        last = readiness;
+    }
+
+    // Time to open a TCP connection to the upstream host in milliseconds, or null if it cannot be reached
+    private Long probeUpstream(String upstreamUrl) {
+        URI uri = URI.create(upstreamUrl);
+        int port = uri.getPort() > 0 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        long start = System.nanoTime();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), port), probeTimeoutMillis);
+            return (System.nanoTime() - start) / 1_000_000;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Upstream probe to {}:{} failed: {}", uri.getHost(), port, e.toString());
+            return null;
+        }
+    }
+
+    private static ReadinessResponse copyOf(ReadinessResponse source) {
+        ReadinessResponse copy = new ReadinessResponse();
+        copy.setStatus(source.getStatus());
+        copy.setTimestamp(source.getTimestamp());
+        copy.getReasons().addAll(source.getReasons());
+        copy.setUpstreamReachable(source.isUpstreamReachable());
+        copy.setUpstreamConnectMillis(source.getUpstreamConnectMillis());
+        copy.setSnapshotLoaded(source.isSnapshotLoaded());
+        copy.setSnapshotFallback(source.isSnapshotFallback());
+        copy.setSnapshotAgeSeconds(source.getSnapshotAgeSeconds());
+        copy.setSnapshotEmployees(source.getSnapshotEmployees());
+        copy.setSnapshotSource(source.getSnapshotSource());
+        copy.setPendingWrites(source.getPendingWrites());
+        copy.setPoolLeased(source.getPoolLeased());
+        copy.setPoolMax(source.getPoolMax());
+        copy.setPoolPending(source.getPoolPending());
+        copy.setFallbackRate(source.getFallbackRate());
+        return copy;
+    }
+
+    private static String now() {
+        return OffsetDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.rqchallenge.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The replicas of this service that share one employee snapshot, so that only one of them loads it from the
+ * rate-limited upstream.
+ *
+ * Every replica is configured with the same ranked member list. The elected replica is the first one that can be
+ * reached: a replica asks the replicas ranked ahead of it for their snapshot, in rank order, and only fetches from
+ * the upstream itself when none of them answers. As replicas only ever ask those ranked ahead of them, a replica
+ * that is loading its own snapshot never waits for one that is waiting for it.
+ */
+public class ReplicaPeers {
+
+    private final List<String> ahead;
+    private final String selfUrl;
+    private final Duration timeout;
+
+    // Replica the current snapshot came from, null while this replica loads from the upstream itself
+    private volatile String source;
+
+    /**
+     * @param members Base URLs of every replica, ranked; the same list on each of them.
+     * @param selfUrl Base URL of this replica as listed in members. A replica not listed ranks after all of them.
+     * @param timeout Time a replica ahead gets to return its snapshot before the next one is asked.
+     */
+    public ReplicaPeers(List<String> members, String selfUrl, Duration timeout) {
+        List<String> ahead = new ArrayList<>();
+        for (String member : members) {
+            String url = trimSlash(member);
+            if (url.equals(trimSlash(selfUrl))) {
+                break;
+            }
+            ahead.add(url);
+        }
+        this.ahead = Collections.unmodifiableList(ahead);
+        this.selfUrl = selfUrl;
+        this.timeout = timeout;
+    }
+
+    // A replica that does not share its snapshot and always loads from the upstream
+    public static ReplicaPeers none() {
+        return new ReplicaPeers(Collections.emptyList(), null, null);
+    }
+
+    // Whether some replica may serve this one its snapshot; false for the replica ranked first
+    public boolean hasReplicasAhead() {
+        return !ahead.isEmpty();
+    }
+
+    // Base URLs of the replicas ranked ahead of this one, best first
+    public List<String> getAhead() {
+        return ahead;
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    void setSource(String source) {
+        this.source = source;
+    }
+
+    // Entity tag of a shared snapshot: the same content under the same version gets the same tag
+    public static String etagOf(long version, String checksum) {
+        return "\"" + version + "-" + checksum + "\"";
+    }
+
+    private static String trimSlash(String url) {
+        if (url == null) {
+            return "";
+        }
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.SalaryAggregate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Salary count, sum, min and max per bucket, computed over primitive columns. Large inputs are split in halves
+ * on a fork-join pool until a slice is small enough to scan sequentially; the partial results are then merged.
+ */
+public final class SalaryAggregation {
+
+    // Below this many employees a slice is scanned on the current thread
+    static final int SEQUENTIAL_THRESHOLD = 16_384;
+
+    private SalaryAggregation() {
+    }
+
+    /**
+     * Aggregate salaries into buckets of the key column.
+     *
+     * @param keys       The value each employee is bucketed by (age or salary), parallel to salaries.
+     * @param salaries   The salary of each employee.
+     * @param boundaries Strictly ascending bucket boundaries; n boundaries give n + 1 buckets.
+     * @param pool       The pool large inputs are split across.
+     * @return One aggregate per bucket, lowest bucket first, including empty buckets.
+     */
+    public static List<SalaryAggregate> aggregate(int[] keys, int[] salaries, int[] boundaries, ForkJoinPool pool) {
+        Partial total = keys.length <= SEQUENTIAL_THRESHOLD
+                ? scan(keys, salaries, boundaries, 0, keys.length)
+                : pool.invoke(new AggregateTask(keys, salaries, boundaries, 0, keys.length));
+
+        List<SalaryAggregate> aggregates = new ArrayList<>(boundaries.length + 1);
+        for (int bucket = 0; bucket <= boundaries.length; bucket++) {
+            boolean empty = total.counts[bucket] == 0;
+            aggregates.add(new SalaryAggregate(
+                    bucket > 0 ? boundaries[bucket - 1] : null,
+                    bucket < boundaries.length ? boundaries[bucket] : null,
+                    total.counts[bucket],
+                    total.sums[bucket],
+                    empty ? null : total.mins[bucket],
+                    empty ? null : total.maxs[bucket]));
+        }
+        return aggregates;
+    }
+
+    private static Partial scan(int[] keys, int[] salaries, int[] boundaries, int from, int to) {
+        Partial partial = new Partial(boundaries.length + 1);
+        for (int i = from; i < to; i++) {
+            int bucket = bucketOf(keys[i], boundaries);
+            int salary = salaries[i];
+            partial.counts[bucket]++;
+            partial.sums[bucket] += salary;
+            partial.mins[bucket] = Math.min(partial.mins[bucket], salary);
+            partial.maxs[bucket] = Math.max(partial.maxs[bucket], salary);
+        }
+        return partial;
+    }
+
+    // Index of the bucket whose range holds the key: the number of boundaries at or below it
+    private static int bucketOf(int key, int[] boundaries) {
+        int position = Arrays.binarySearch(boundaries, key);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static class Partial {
+
+        private final long[] counts;
+        private final long[] sums;
+        private final int[] mins;
+        private final int[] maxs;
+
+        Partial(int buckets) {
+            counts = new long[buckets];
+            sums = new long[buckets];
+            mins = new int[buckets];
+            maxs = new int[buckets];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+        }
+
+        Partial merge(Partial other) {
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                counts[bucket] += other.counts[bucket];
+                sums[bucket] += other.sums[bucket];
+                mins[bucket] = Math.min(mins[bucket], other.mins[bucket]);
+                maxs[bucket] = Math.max(maxs[bucket], other.maxs[bucket]);
+            }
+            return this;
+        }
+    }
+
+    private static class AggregateTask extends RecursiveTask<Partial> {
+
+        private final int[] keys;
+        private final int[] salaries;
+        private final int[] boundaries;
+        private final int from;
+        private final int to;
+
+        AggregateTask(int[] keys, int[] salaries, int[] boundaries, int from, int to) {
+            this.keys = keys;
+            this.salaries = salaries;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return scan(keys, salaries, boundaries, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(keys, salaries, boundaries, from, middle);
+            left.fork();
+            Partial right = new AggregateTask(keys, salaries, boundaries, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Checksum of an employee list as shared between replicas. It covers every field of every employee in list order
+ * and is computed from the values rather than from the JSON, so it does not depend on how either side formats it.
+ */
+final class SnapshotChecksum {
+
+    private SnapshotChecksum() {
+    }
+
+    // CRC-32C of the list as eight hex digits
+    static String of(List<Employee> employees) {
+        CRC32C crc = new CRC32C();
+        for (Employee employee : employees) {
+            update(crc, employee.getId());
+            update(crc, employee.getEmployeeName());
+            update(crc, employee.getEmployeeSalary());
+            update(crc, employee.getEmployeeAge());
+            update(crc, employee.getProfileImage());
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+    // Each field is followed by a separator, and null differs from the empty string
+    private static void update(CRC32C crc, String value) {
+        if (value == null) {
+            crc.update(0xFF);
+        } else {
+            crc.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        crc.update(0);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.config.RequestDeadline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The upstream instances the employee data is split across, e.g. one per region.
+ *
+ * Full-list reads go to every shard in parallel, each within its own timeout. Reads and deletes by id go to the
+ * one shard the id maps to: plain numeric ids modulo the number of shards, other ids by their hash. Each shard
+ * must therefore hold the ids that map to it. Creates carry no id and are spread round-robin; a shard is expected
+ * to assign new ids that map back to itself.
+ */
+public class UpstreamShards {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamShards.class);
+
+    private final List<Shard> shards;
+    private final boolean allowPartial;
+    private final Executor executor;
+    private final AtomicInteger nextCreate = new AtomicInteger();
+
+    /**
+     * @param shards       The shards, in the order the shard function numbers them.
+     * @param allowPartial Whether a full-list read may be served while some shards failed or timed out.
+     * @param executor     Runs the per-shard calls of a fan-out; only used with more than one shard.
+     */
+    public UpstreamShards(List<Shard> shards, boolean allowPartial, Executor executor) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one upstream shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.allowPartial = allowPartial;
+        this.executor = executor;
+    }
+
+    // A single upstream holding every employee, as configured by api.base.url
+    public static UpstreamShards single(String baseUrl) {
+        return new UpstreamShards(List.of(new Shard(baseUrl, null)), false, null);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public String getBaseUrl(int shard) {
+        return shards.get(shard).getBaseUrl();
+    }
+
+    public List<String> getBaseUrls() {
+        List<String> baseUrls = new ArrayList<>(shards.size());
+        shards.forEach(shard -> baseUrls.add(shard.getBaseUrl()));
+        return Collections.unmodifiableList(baseUrls);
+    }
+
+    public boolean isAllowPartial() {
+        return allowPartial;
+    }
+
+    // Number of the shard holding the employee with this id
+    public int shardOf(String id) {
+        if (shards.size() == 1 || id == null) {
+            return 0;
+        }
+        if (isPlainNumber(id)) {
+            try {
+                return (int) Math.floorMod(Long.parseLong(id), (long) shards.size());
+            } catch (NumberFormatException e) {
+                // Too long for a long; hashed like any other id
+            }
+        }
+        return Math.floorMod(id.hashCode(), shards.size());
+    }
+
+    // Base URL of the shard holding the employee with this id
+    public String forId(String id) {
+        return getBaseUrl(shardOf(id));
+    }
+
+    // Base URL of the shard the next create goes to
+    public String forCreate() {
+        return shards.size() == 1 ? getBaseUrl(0) : getBaseUrl(Math.floorMod(nextCreate.getAndIncrement(), shards.size()));
+    }
+
+    /**
+     * Call every shard in parallel. A shard with a timeout gets at most that long, both as the deadline of its
+     * upstream calls and as the time waited for its result.
+     *
+     * @param call Called with the base URL of each shard; may return null for a failed call.
+     * @return The result of each shard in shard order, null for a shard that failed or did not answer in time.
+     */
+    public <T> List<T> fanOut(Function<String, T> call) {
+        if (shards.size() == 1) {
+            return Collections.singletonList(call.apply(getBaseUrl(0)));
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> callWithin(shard, call), executor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<T> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            CompletableFuture<T> future = futures.get(i);
+            try {
+                if (shard.getTimeout() == null) {
+                    results.add(future.get());
+                } else {
+                    long waitNanos = shard.getTimeout().toNanos() - (System.nanoTime() - start);
+                    results.add(future.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS));
+                }
+            } catch (TimeoutException e) {
+                logger.warn("Upstream shard {} did not answer within {} ms.", shard.getBaseUrl(), shard.getTimeout().toMillis());
+                future.cancel(true);
+                results.add(null);
+            } catch (ExecutionException e) {
+                logger.warn("Upstream shard {} failed: {}", shard.getBaseUrl(), e.getCause().toString());
+                results.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    // Run a call for one shard with the shard's timeout as its deadline, unless the caller's deadline is sooner
+    private static <T> T callWithin(Shard shard, Function<String, T> call) {
+        Long previous = RequestDeadline.current();
+        Duration remaining = RequestDeadline.remaining();
+        if (shard.getTimeout() != null && (remaining == null || remaining.compareTo(shard.getTimeout()) > 0)) {
+            RequestDeadline.start(shard.getTimeout());
+        }
+        try {
+            return call.apply(shard.getBaseUrl());
+        } finally {
+            RequestDeadline.restore(previous);
+        }
+    }
+
+    private static boolean isPlainNumber(String id) {
+        if (id.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) < '0' || id.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static class Shard {
+
+        private final String baseUrl;
+        private final Duration timeout;  // Null for no limit beyond the upstream client's own timeouts
+
+        public Shard(String baseUrl, Duration timeout) {
+            this.baseUrl = baseUrl;
+            this.timeout = timeout;
+        }
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+    }
+}
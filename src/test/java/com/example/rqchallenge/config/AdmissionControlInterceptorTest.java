@@ -0,0 +1,115 @@
+package com.example.rqchallenge.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private AdmissionControlInterceptor interceptor;
+    private HandlerMethod getEmployeeById;
+    private HandlerMethod getHighestSalaryOfEmployees;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setLimits(Map.of("getEmployeeById", 1));
+        properties.setMinLimit(1);
+        properties.setQueueSize(0);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new AdmissionControlInterceptor(properties, meterRegistry);
+
+        Handlers handlers = new Handlers();
+        getEmployeeById = new HandlerMethod(handlers, Handlers.class.getMethod("getEmployeeById"));
+        getHighestSalaryOfEmployees = new HandlerMethod(handlers, Handlers.class.getMethod("getHighestSalaryOfEmployees"));
+    }
+
+    @Test
+    public void testPreHandle_RejectsWhenEndpointSaturated() {
+        // Arrange
+        MockHttpServletRequest firstRequest = new MockHttpServletRequest();
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+
+        // Act
+        boolean first = interceptor.preHandle(firstRequest, firstResponse, getEmployeeById);
+        boolean second = interceptor.preHandle(new MockHttpServletRequest(), secondResponse, getEmployeeById);
+        boolean other = interceptor.preHandle(new MockHttpServletRequest(), otherResponse, getHighestSalaryOfEmployees);
+        interceptor.afterCompletion(firstRequest, firstResponse, getEmployeeById, null);
+        boolean afterRelease = interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), getEmployeeById);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(503, secondResponse.getStatus());
+        assertEquals("2", secondResponse.getHeader("Retry-After"));
+        assertTrue(other);  // A saturated endpoint does not hold back the others
+        assertTrue(afterRelease);
+        assertEquals(1.0, meterRegistry.get("admission.rejected").tag("handler", "getEmployeeById").counter().count());
+    }
+
+    @Test
+    public void testAsyncHandler_KeepsPermitUntilResponseIsComplete() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, getEmployeeById);
+        request.startAsync();
+        interceptor.afterConcurrentHandlingStarted(request, response, getEmployeeById);
+        boolean whileAsync = interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), getEmployeeById);
+        interceptor.afterCompletion(request, response, getEmployeeById, null);  // End of the asynchronous dispatch
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertFalse(whileAsync);
+        assertEquals(0, interceptor.getBulkhead("getEmployeeById").getInFlight());  // Returned once, not twice
+    }
+
+    @Test
+    public void testAdaptiveBulkhead_ShrinksLimitWhenLatencyGrows() throws InterruptedException {
+        // Arrange
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead("getEmployeeById", 2, 50, 0, 2.0);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(bulkhead.tryAcquire(0));
+            bulkhead.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertTrue(bulkhead.tryAcquire(0));
+            bulkhead.release(TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        // Assert
+        assertTrue(bulkhead.getLimit() < 50, "Limit should shrink, was " + bulkhead.getLimit());
+        assertTrue(bulkhead.getLimit() >= 2);
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    public static class Handlers {
+
+        public void getEmployeeById() {
+        }
+
+        public void getHighestSalaryOfEmployees() {
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.rqchallenge.config;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppConfigTest {
+
+    @Test
+    public void testToHttpRoute_MatchesTheRouteTheClientPlans() {
+        // Act
+        HttpRoute https = AppConfig.toHttpRoute("https://dummy.restapiexample.com");
+        HttpRoute http = AppConfig.toHttpRoute("http://localhost:8081/");
+
+        // Assert
+        assertEquals(new HttpRoute(new HttpHost("dummy.restapiexample.com", 443, "https"), null, true), https);
+        assertEquals(new HttpRoute(new HttpHost("localhost", 8081, "http"), null, false), http);
+    }
+
+    @Test
+    public void testToHttpRoute_RejectsUrlWithPath() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> AppConfig.toHttpRoute("https://dummy.restapiexample.com/api/v1"));
+        assertThrows(IllegalArgumentException.class, () -> AppConfig.toHttpRoute("dummy.restapiexample.com"));
+    }
+}
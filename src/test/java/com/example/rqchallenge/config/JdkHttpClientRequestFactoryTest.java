@@ -0,0 +1,72 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.EmployeeService;
+import com.example.rqchallenge.service.TestEmployeeServices;
+import com.example.rqchallenge.stub.StubUpstreamOptions;
+import com.example.rqchallenge.stub.StubUpstreamServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdkHttpClientRequestFactoryTest {
+
+    private StubUpstreamServer stub;
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StubUpstreamOptions options = new StubUpstreamOptions();
+        options.setEmployees(20);
+        stub = new StubUpstreamServer(options).start();
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        UpstreamTimeouts timeouts = new UpstreamTimeouts(Duration.ofMillis(100), Duration.ofSeconds(5), 0.99, 2.0);
+        RestTemplate restTemplate = new RestTemplate(new JdkHttpClientRequestFactory(httpClient, timeouts));
+        employeeService = TestEmployeeServices.create(restTemplate, stub.getBaseUrl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    public void testGetAllEmployees_OverJdkClient() {
+        // Act
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(20, result.size());
+    }
+
+    @Test
+    public void testCreateEmployee_PostsBodyOverJdkClient() {
+        // Act
+        String result = employeeService.createEmployee(new CreateEmployeeRequest("John Doe", "50000", "30"));
+
+        // Assert
+        assertEquals("success", result);
+        assertEquals(21, stub.getEmployeeCount());  // The stub only grows when the JSON body arrived intact
+    }
+
+    @Test
+    public void testGetEmployeeById_NotFoundMapsToHttpError() {
+        // Act
+        Employee result = employeeService.getEmployeeById("999");
+
+        // Assert
+        assertNull(result);  // 404 from the stub, and 999 is not in the default list either
+        assertEquals(1, stub.getRequestCount("GET /employee/{id}"));
+    }
+}
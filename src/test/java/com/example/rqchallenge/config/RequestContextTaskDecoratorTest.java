@@ -0,0 +1,55 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestContextTaskDecoratorTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        RequestDeadline.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDecorate_CarriesDeadlineAndTraceContextToTheExecutorThread() throws Exception {
+        // Arrange
+        RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+        Span span = SdkTracerProvider.builder().build().get("test").spanBuilder("request").startSpan();
+        AtomicReference<Duration> remaining = new AtomicReference<>();
+        AtomicReference<SpanContext> spanContext = new AtomicReference<>();
+        Runnable task;
+        RequestDeadline.start(Duration.ofSeconds(3));
+        try (Scope ignored = span.makeCurrent()) {
+            task = decorator.decorate(() -> {
+                remaining.set(RequestDeadline.remaining());
+                spanContext.set(Span.current().getSpanContext());
+            });
+        }
+
+        // Act
+        executor.submit(task).get(5, TimeUnit.SECONDS);
+        Duration afterTask = executor.submit(RequestDeadline::remaining).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNotNull(remaining.get());
+        assertTrue(remaining.get().compareTo(Duration.ofSeconds(3)) <= 0);
+        assertEquals(span.getSpanContext(), spanContext.get());
+        assertNull(afterTask);  // The pool thread does not keep the request's deadline
+    }
+}
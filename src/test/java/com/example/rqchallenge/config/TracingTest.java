@@ -0,0 +1,91 @@
+package com.example.rqchallenge.config;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TracingTest {
+
+    private InMemorySpanExporter exporter;
+    private OpenTelemetry openTelemetry;
+
+    @BeforeEach
+    public void setUp() {
+        exporter = InMemorySpanExporter.create();
+        openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    @Test
+    public void testClientInterceptor_PropagatesTraceContextToUpstream() throws Exception {
+        // Arrange
+        TracingClientInterceptor interceptor = new TracingClientInterceptor(openTelemetry);
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/api/v1/employee/7"));
+        Span parent = openTelemetry.getTracer("test").spanBuilder("parent").startSpan();
+
+        // Act
+        try (Scope ignored = parent.makeCurrent()) {
+            interceptor.intercept(request, new byte[0], (sent, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        } finally {
+            parent.end();
+        }
+
+        // Assert
+        SpanData client = exporter.getFinishedSpanItems().get(0);
+        assertEquals("GET /api/v1/employee/{id}", client.getName());
+        assertEquals(SpanKind.CLIENT, client.getKind());
+        assertEquals(parent.getSpanContext().getSpanId(), client.getParentSpanId());
+        String traceparent = request.getHeaders().getFirst("traceparent");
+        assertNotNull(traceparent);
+        assertTrue(traceparent.contains(client.getTraceId()));
+        assertTrue(traceparent.contains(client.getSpanId()));
+    }
+
+    @Test
+    public void testMethodInterceptor_SpanPerCall() {
+        // Arrange
+        ProxyFactory proxyFactory = new ProxyFactory(new Greeter());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TracingMethodInterceptor(openTelemetry.getTracer("test"), "Greeter"));
+        Greeter greeter = (Greeter) proxyFactory.getProxy();
+
+        // Act
+        String greeting = greeter.greet("Tiger");
+
+        // Assert
+        assertEquals("Hello Tiger", greeting);
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(1, spans.size());
+        assertEquals("Greeter.greet", spans.get(0).getName());
+    }
+
+    public static class Greeter {
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+}
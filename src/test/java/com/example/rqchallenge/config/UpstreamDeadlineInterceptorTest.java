@@ -0,0 +1,67 @@
+package com.example.rqchallenge.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpstreamDeadlineInterceptorTest {
+
+    private final URI uri = URI.create("http://localhost/api/v1/employees");
+    private final UpstreamTimeouts timeouts =
+            new UpstreamTimeouts(Duration.ofMillis(100), Duration.ofSeconds(5), 0.99, 2.0);
+    private final UpstreamDeadlineInterceptor interceptor =
+            new UpstreamDeadlineInterceptor(timeouts, new SimpleMeterRegistry());
+
+    @AfterEach
+    public void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    public void testIntercept_CallsCutByCallerDeadlineAreNotSampled() throws Exception {
+        // Arrange: every call times out at once, as it would under a client's tiny X-Request-Timeout-Ms
+        ClientHttpRequestExecution timingOut = (request, body) -> {
+            throw new SocketTimeoutException("Read timed out");
+        };
+
+        // Act
+        for (int i = 0; i < 64; i++) {
+            RequestDeadline.start(Duration.ofMillis(50));
+            assertThrows(SocketTimeoutException.class,
+                    () -> interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, uri), new byte[0], timingOut));
+        }
+        RequestDeadline.clear();
+
+        // Assert
+        assertEquals(Duration.ofSeconds(5), timeouts.timeoutFor(HttpMethod.GET, uri));
+    }
+
+    @Test
+    public void testIntercept_CompletedCallsAreSampledUnderAnyDeadline() throws Exception {
+        // Arrange
+        ClientHttpRequestExecution completing =
+                (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+
+        // Act
+        for (int i = 0; i < 64; i++) {
+            RequestDeadline.start(Duration.ofMillis(50));
+            interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, uri), new byte[0], completing);
+        }
+        RequestDeadline.clear();
+
+        // Assert
+        assertEquals(Duration.ofMillis(100), timeouts.timeoutFor(HttpMethod.GET, uri));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeApiResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpstreamJsonConverterTest {
+
+    private static final Type EMPLOYEE_LIST_RESPONSE =
+            new ParameterizedTypeReference<EmployeeApiResponse<List<Employee>>>() {}.getType();
+
+    @Test
+    public void testRead_ReusesReaderPerType() throws IOException {
+        // Arrange
+        UpstreamJsonConverter converter = new UpstreamJsonConverter(new ObjectMapper().registerModule(new BlackbirdModule()));
+        String json = "{\"status\":\"success\",\"data\":[{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\","
+                + "\"employee_salary\":\"320800\",\"employee_age\":\"61\",\"profile_image\":\"\"}]}";
+
+        // Act
+        Object first = converter.read(EMPLOYEE_LIST_RESPONSE, null, response(json));
+        Object second = converter.read(EMPLOYEE_LIST_RESPONSE, null, response(json));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        EmployeeApiResponse<List<Employee>> response = (EmployeeApiResponse<List<Employee>>) second;
+        assertNotSame(first, second);
+        assertEquals("success", response.getStatus());
+        assertEquals("Tiger Nixon", response.getData().get(0).getEmployeeName());
+        assertEquals("320800", response.getData().get(0).getEmployeeSalary());
+        assertEquals(1, converter.getReaderCount());
+    }
+
+    @Test
+    public void testRead_MalformedJson() {
+        // Arrange
+        UpstreamJsonConverter converter = new UpstreamJsonConverter(new ObjectMapper());
+
+        // Act & Assert
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(EMPLOYEE_LIST_RESPONSE, null, response("{\"status\":")));
+    }
+
+    @Test
+    public void testWrite_RequestBody() throws IOException {
+        // Arrange
+        UpstreamJsonConverter converter = new UpstreamJsonConverter(new ObjectMapper());
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(new CreateEmployeeRequest("Jane Smith", "60000", "25"), CreateEmployeeRequest.class,
+                MediaType.APPLICATION_JSON, outputMessage);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON, outputMessage.getHeaders().getContentType());
+        assertEquals("{\"name\":\"Jane Smith\",\"salary\":\"60000\",\"age\":\"25\"}",
+                outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    private static MockClientHttpResponse response(String json) {
+        MockClientHttpResponse response = new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.rqchallenge.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpstreamTimeoutsTest {
+
+    private final UpstreamTimeouts timeouts =
+            new UpstreamTimeouts(Duration.ofMillis(100), Duration.ofSeconds(5), 0.99, 2.0);
+
+    @AfterEach
+    public void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    public void testTimeoutFor_AdaptsToObservedLatency() {
+        // Arrange
+        URI first = URI.create("http://localhost/api/v1/employee/1");
+        URI other = URI.create("http://localhost/api/v1/employee/2");
+        for (int i = 0; i < 64; i++) {
+            timeouts.record(HttpMethod.GET, first, Duration.ofMillis(200).toNanos());
+        }
+
+        // Act
+        Duration employeeTimeout = timeouts.timeoutFor(HttpMethod.GET, other);
+        Duration listTimeout = timeouts.timeoutFor(HttpMethod.GET, URI.create("http://localhost/api/v1/employees"));
+
+        // Assert
+        assertEquals(Duration.ofMillis(400), employeeTimeout);  // Ids are folded into one operation
+        assertEquals(Duration.ofSeconds(5), listTimeout);  // No samples yet, so the read timeout applies
+    }
+
+    @Test
+    public void testTimeoutFor_CappedByRequestDeadline() {
+        // Arrange
+        RequestDeadline.start(Duration.ofMillis(300));
+
+        // Act
+        Duration timeout = timeouts.timeoutFor(HttpMethod.DELETE, URI.create("http://localhost/api/v1/delete/7"));
+
+        // Assert
+        assertTrue(timeout.compareTo(Duration.ofMillis(300)) <= 0);
+        assertTrue(timeout.compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    public void testIsBoundByDeadline_OnlyWhenDeadlineIsShorter() {
+        // Arrange
+        URI uri = URI.create("http://localhost/api/v1/employees");
+        boolean withoutDeadline = timeouts.isBoundByDeadline(HttpMethod.GET, uri);
+        RequestDeadline.start(Duration.ofSeconds(20));
+        boolean generousDeadline = timeouts.isBoundByDeadline(HttpMethod.GET, uri);
+        RequestDeadline.start(Duration.ofMillis(50));
+
+        // Act
+        boolean tinyDeadline = timeouts.isBoundByDeadline(HttpMethod.GET, uri);
+
+        // Assert
+        assertFalse(withoutDeadline);
+        assertFalse(generousDeadline);
+        assertTrue(tinyDeadline);
+    }
+
+    @Test
+    public void testOperation_FoldsIds() {
+        // Act & Assert
+        assertEquals("GET /api/v1/employee/{id}",
+                UpstreamTimeouts.operation(HttpMethod.GET, URI.create("http://localhost/api/v1/employee/42")));
+        assertEquals("GET /api/v1/employees",
+                UpstreamTimeouts.operation(HttpMethod.GET, URI.create("http://localhost/api/v1/employees")));
+    }
+}
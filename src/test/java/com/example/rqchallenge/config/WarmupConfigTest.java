@@ -0,0 +1,65 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.service.EmployeeService;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class WarmupConfigTest {
+
+    @Test
+    public void testRun_PreloadsAndRequestsEveryPathEachRound() throws IOException {
+        // Arrange
+        Map<String, Integer> requests = new ConcurrentHashMap<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.merge(exchange.getRequestURI().toString(), 1, Integer::sum);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.preload()).thenReturn(3);
+        WarmupProperties properties = new WarmupProperties();
+        properties.setRounds(3);
+        properties.setPaths(List.of("/v1/employees", "/v1/employees/search/son"));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+        // Act
+        try {
+            new WarmupConfig(properties, employeeService, environment).run(new DefaultApplicationArguments());
+        } finally {
+            server.stop(0);
+        }
+
+        // Assert
+        verify(employeeService).preload();
+        assertEquals(Map.of("/v1/employees", 3, "/v1/employees/search/son", 3), requests);
+    }
+
+    @Test
+    public void testRun_WithoutWebServerOnlyPreloads() {
+        // Arrange
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.preload()).thenThrow(new IllegalStateException("upstream down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> new WarmupConfig(new WarmupProperties(), employeeService, new MockEnvironment())
+                .run(new DefaultApplicationArguments()));
+        verify(employeeService).preload();
+    }
+}
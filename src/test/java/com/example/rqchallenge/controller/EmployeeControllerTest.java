@@ -3,6 +3,11 @@ package com.example.rqchallenge.controller;
 import com.example.rqchallenge.employees.EmployeeController;
 import com.example.rqchallenge.model.Employee;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+import com.example.rqchallenge.model.EmployeeQuery;
+import com.example.rqchallenge.model.NameSuggestion;
+import com.example.rqchallenge.model.SalaryAggregate;
+import com.example.rqchallenge.service.EmployeeChangeFeed;
 import com.example.rqchallenge.service.EmployeeService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,13 +22,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import org.springframework.http.MediaType;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -41,6 +51,9 @@ public class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeChangeFeed changeFeed;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
@@ -83,6 +96,22 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    public void testGetAllEmployees_NegotiatesSmile() throws Exception {
+        // Arrange
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        List<Employee> employeeList = Arrays.asList(employee1, employee2);
+
+        when(employeeService.getAllEmployees()).thenReturn(employeeList);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees")
+                .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"));
+    }
+
     // Test for searching employees by name
     @Test
     public void testGetEmployeesByNameSearch_ReturnsMatchingEmployees() throws Exception {
@@ -118,6 +147,142 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployeesByNameSearch("Mike");
     }
 
+    @Test
+    public void testGetEmployeesByNameSearch_FuzzyMode() throws Exception {
+        // Arrange
+        Employee employee = new Employee("3", "Mike Tyson", "70000", "35", "");
+        when(employeeService.getEmployeesByFuzzyNameSearch("Mkie", 3)).thenReturn(Arrays.asList(employee));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/search/Mkie")
+                .param("fuzzy", "true")
+                .param("maxDistance", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Mike Tyson"));
+
+        verify(employeeService, never()).getEmployeesByNameSearch(anyString());
+    }
+
+    @Test
+    public void testGetNameSuggestions_ReturnsIdsAndNames() throws Exception {
+        // Arrange
+        when(employeeService.getNameSuggestions("Ti", 10)).thenReturn(Arrays.asList(new NameSuggestion("1", "Tiger Nixon")));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/autocomplete")
+                .param("prefix", "Ti")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].employee_name").value("Tiger Nixon"));
+    }
+
+    @Test
+    public void testQueryEmployees_StreamsMatchingEmployees() throws Exception {
+        // Arrange
+        Employee employee = new Employee("2", "Jane Smith", "60000", "25", "");
+        when(employeeService.queryEmployees(any(EmployeeQuery.class))).thenReturn(Arrays.asList(employee));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/employees/query")
+                .param("minSalary", "55000")
+                .param("maxAge", "30")
+                .param("sort", "-salary")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employee_name").value("Jane Smith"));
+
+        verify(employeeService, times(1)).queryEmployees(argThat(query ->
+                query.getMinSalary() == 55000 && query.getMaxAge() == 30 && "-salary".equals(query.getSort())));
+    }
+
+    @Test
+    public void testQueryEmployees_UnsupportedSort() throws Exception {
+        // Arrange
+        when(employeeService.queryEmployees(any(EmployeeQuery.class)))
+                .thenThrow(new IllegalArgumentException("Unsupported sort order 'name'"));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/query")
+                .param("sort", "name")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetSalaryAggregates_UsesDefaultAgeBands() throws Exception {
+        // Arrange
+        List<SalaryAggregate> aggregates = Arrays.asList(
+                new SalaryAggregate(null, 20, 0, 0, null, null),
+                new SalaryAggregate(20, 30, 2, 110000, 50000, 60000));
+        when(employeeService.getSalaryAggregates(eq("age"), any(int[].class))).thenReturn(aggregates);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/aggregates")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].count").value(2))
+                .andExpect(jsonPath("$[1].salary_average").value(55000.0));
+
+        verify(employeeService, times(1)).getSalaryAggregates(eq("age"), aryEq(new int[]{20, 30, 40, 50, 60}));
+    }
+
+    @Test
+    public void testGetEmployeeChanges_ReturnsEventsAfterSequence() throws Exception {
+        // Arrange
+        Employee employee = new Employee("3", "Mike Tyson", "70000", "35", "");
+        when(changeFeed.eventsAfter(5L)).thenReturn(Optional.of(Arrays.asList(
+                new EmployeeChangeEvent(6L, EmployeeChangeEvent.ADDED, employee))));
+        when(changeFeed.getLatestSequence()).thenReturn(6L);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/changes")
+                .param("since", "5")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Latest-Sequence", "6"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].sequence").value(6))
+                .andExpect(jsonPath("$[0].type").value("added"))
+                .andExpect(jsonPath("$[0].employee.employee_name").value("Mike Tyson"));
+    }
+
+    @Test
+    public void testGetEmployeeChanges_GoneWhenSequenceEvicted() throws Exception {
+        // Arrange
+        when(changeFeed.eventsAfter(1L)).thenReturn(Optional.empty());
+        when(changeFeed.getLatestSequence()).thenReturn(9000L);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/changes")
+                .param("since", "1")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isGone())
+                .andExpect(header().string("X-Latest-Sequence", "9000"));
+    }
+
+    @Test
+    public void testStreamEmployeeChanges_ServiceUnavailableAtStreamLimit() throws Exception {
+        // Arrange
+        when(changeFeed.subscribe(any(), any())).thenThrow(new RejectedExecutionException("Change feed is full"));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/employees/changes")
+                .header("Last-Event-ID", "3")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     // Test for getting employee by ID
     @Test
     public void testGetEmployeeById_EmployeeFound() throws Exception {
@@ -126,9 +291,14 @@ public class EmployeeControllerTest {
 
         when(employeeService.getEmployeeById("1")).thenReturn(employee);
 
-        // Act & Assert
-        mockMvc.perform(get("/v1/employees/1")
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/employees/1")
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.employee_name").value("John Doe"));
 
@@ -141,9 +311,14 @@ public class EmployeeControllerTest {
         // Arrange
         when(employeeService.getEmployeeById("99")).thenReturn(null);
 
-        // Act & Assert
-        mockMvc.perform(get("/v1/employees/99")
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/employees/99")
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNotFound());
 
         // Verify that the service method was called once
@@ -224,10 +399,15 @@ public class EmployeeControllerTest {
 
         when(employeeService.createEmployee(any(CreateEmployeeRequest.class))).thenReturn("success");
 
-        // Act & Assert
-        mockMvc.perform(post("/v1/employees")
+        // Act
+        MvcResult result = mockMvc.perform(post("/v1/employees")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(createEmployeeRequest)))  // Convert CreateEmployeeRequest to JSON
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().string("success"));
 
@@ -242,10 +422,15 @@ public class EmployeeControllerTest {
 
         when(employeeService.createEmployee(any(CreateEmployeeRequest.class))).thenReturn("failure");
 
-        // Act & Assert
-        mockMvc.perform(post("/v1/employees")
+        // Act
+        MvcResult result = mockMvc.perform(post("/v1/employees")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(createEmployeeRequest)))  // Convert CreateEmployeeRequest to JSON
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError())
                 .andExpect(content().string("Failed to create employee"));
 
@@ -261,9 +446,14 @@ public class EmployeeControllerTest {
 
         when(employeeService.deleteEmployee(employeeId)).thenReturn(deletedEmployeeName);
 
-        // Act & Assert
-        mockMvc.perform(delete("/v1/employees/{id}", employeeId)
+        // Act
+        MvcResult result = mockMvc.perform(delete("/v1/employees/{id}", employeeId)
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().string(deletedEmployeeName));
 
@@ -278,9 +468,14 @@ public class EmployeeControllerTest {
 
         when(employeeService.deleteEmployee(employeeId)).thenReturn(null);  // Simulate not found
 
-        // Act & Assert
-        mockMvc.perform(delete("/v1/employees/{id}", employeeId)
+        // Act
+        MvcResult result = mockMvc.perform(delete("/v1/employees/{id}", employeeId)
                 .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNotFound());
 
         // Verify that the service method was called once
@@ -1,6 +1,7 @@
 package com.example.rqchallenge.controller;
 
 import com.example.rqchallenge.model.HealthResponse;
+import com.example.rqchallenge.model.ReadinessResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -40,5 +41,33 @@ public class HealthControllerTest {
             fail("Timestamp is not in the correct ISO 8601 format");
         }
     }
-}
 
+    @Test
+    public void testLivenessCheck() {
+        // Act
+        ResponseEntity<HealthResponse> responseEntity =
+                restTemplate.getForEntity("/v1/health/live", HealthResponse.class);
+
+        // Assert
+        assertEquals(200, responseEntity.getStatusCodeValue(), "Expected HTTP status 200");
+        assertNotNull(responseEntity.getBody(), "Response body should not be null");
+        assertEquals("UP", responseEntity.getBody().getStatus());
+    }
+
+    @Test
+    public void testReadinessCheck() {
+        // Act
+        ResponseEntity<ReadinessResponse> responseEntity =
+                restTemplate.getForEntity("/v1/health/ready", ReadinessResponse.class);
+
+        // Assert
+        ReadinessResponse readiness = responseEntity.getBody();
+        assertNotNull(readiness, "Response body should not be null");
+        assertNotNull(readiness.getTimestamp(), "Timestamp should not be null");
+        // Whether the upstream can be reached depends on the test environment, but the code must match the status
+        assertEquals("DOWN".equals(readiness.getStatus()) ? 503 : 200, responseEntity.getStatusCodeValue());
+        if (!"UP".equals(readiness.getStatus())) {
+            assertFalse(readiness.getReasons().isEmpty(), "A status other than UP should carry reasons");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeChangeFeedTest {
+
+    @Test
+    public void testSnapshotDiff_DetectsAddedRemovedAndUpdated() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""),
+                new Employee("3", "Mike Tyson", "70000", "35", "")), false);
+        List<Employee> current = Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "65000", "25", ""),
+                new Employee("4", "Bruce Wayne", "80000", "40", ""));
+
+        // Act
+        EmployeeSnapshotDiff diff = index.diff(current);
+
+        // Assert
+        assertEquals("4", diff.getAdded().get(0).getId());
+        assertEquals("3", diff.getRemoved().get(0).getId());
+        assertEquals("2", diff.getUpdated().get(0).getId());
+        assertEquals(3, diff.size());
+    }
+
+    @Test
+    public void testEventsAfter_ReturnsNewerEventsInOrder() {
+        // Arrange
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8, 16, 1, 16);
+        for (int i = 1; i <= 5; i++) {
+            feed.publish(EmployeeChangeEvent.ADDED, new Employee(String.valueOf(i), "Employee " + i, "1000", "30", ""));
+        }
+
+        // Act
+        Optional<List<EmployeeChangeEvent>> events = feed.eventsAfter(3);
+
+        // Assert
+        assertTrue(events.isPresent());
+        assertEquals(2, events.get().size());
+        assertEquals(4, events.get().get(0).getSequence());
+        assertEquals(5, events.get().get(1).getSequence());
+        assertEquals(5, feed.getLatestSequence());
+    }
+
+    @Test
+    public void testEventsAfter_EmptyWhenSequenceEvicted() {
+        // Arrange
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(4, 16, 1, 16);
+        for (int i = 1; i <= 10; i++) {
+            feed.publish(EmployeeChangeEvent.ADDED, new Employee(String.valueOf(i), "Employee " + i, "1000", "30", ""));
+        }
+
+        // Act & Assert
+        assertFalse(feed.eventsAfter(2).isPresent());  // Events 3..6 have been overwritten
+        assertEquals(4, feed.eventsAfter(6).get().size());  // Events 7..10 are still buffered
+        assertTrue(feed.eventsAfter(10).get().isEmpty());
+    }
+
+    @Test
+    public void testEventsAfter_EmptyWhenSequenceAheadOfFeed() {
+        // Arrange: a client that saw sequence 40 on another replica or before a restart
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8, 16, 1, 16);
+        feed.publish(EmployeeChangeEvent.ADDED, new Employee("1", "John Doe", "50000", "30", ""));
+
+        // Act & Assert
+        assertFalse(feed.eventsAfter(40).isPresent());
+        assertTrue(feed.eventsAfter(1).get().isEmpty());
+    }
+
+    @Test
+    public void testSubscribe_ReceivesEventsUntilUnsubscribed() throws InterruptedException {
+        // Arrange
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8, 16, 1, 16);
+        BlockingQueue<EmployeeChangeEvent> received = new LinkedBlockingQueue<>();
+        Runnable unsubscribe = feed.subscribe(received::add, () -> {});
+
+        // Act
+        feed.publish(EmployeeChangeEvent.ADDED, new Employee("1", "John Doe", "50000", "30", ""));
+        EmployeeChangeEvent first = received.poll(5, TimeUnit.SECONDS);
+        unsubscribe.run();
+        feed.publish(EmployeeChangeEvent.REMOVED, new Employee("1", "John Doe", "50000", "30", ""));
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(EmployeeChangeEvent.ADDED, first.getType());
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    public void testPublish_DropsStalledSubscriberWithoutWaitingForIt() throws InterruptedException {
+        // Arrange: the subscriber blocks on its first event until released
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8, 2, 1, 16);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch overflowed = new CountDownLatch(1);
+        feed.subscribe(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, overflowed::countDown);
+
+        // Act
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 1; i <= 6; i++) {
+                feed.publish(EmployeeChangeEvent.ADDED, new Employee(String.valueOf(i), "Employee " + i, "1000", "30", ""));
+            }
+        });
+        release.countDown();
+
+        // Assert
+        assertTrue(overflowed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, feed.getSubscriberCount());
+        assertEquals(6, feed.getLatestSequence());
+    }
+
+    @Test
+    public void testSubscribe_RejectedAtSubscriberLimit() {
+        // Arrange
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8, 16, 1, 2);
+        feed.subscribe(event -> {}, () -> {});
+        Runnable unsubscribe = feed.subscribe(event -> {}, () -> {});
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> feed.subscribe(event -> {}, () -> {}));
+        unsubscribe.run();
+        feed.subscribe(event -> {}, () -> {});
+        assertEquals(2, feed.getSubscriberCount());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.rqchallenge.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeIdBloomFilterTest {
+
+    @Test
+    public void testMightContain_NoFalseNegativesAndFewFalsePositives() {
+        // Arrange
+        EmployeeIdBloomFilter filter = new EmployeeIdBloomFilter(10_000, 0.01);
+        for (int id = 1; id <= 10_000; id++) {
+            filter.add(String.valueOf(id));
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int id = 10_001; id <= 110_000; id++) {
+            if (filter.mightContain(String.valueOf(id))) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        for (int id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(String.valueOf(id)));
+        }
+        assertTrue(falsePositives < 2_000, "False positive rate too high: " + falsePositives + " in 100000");
+        assertFalse(filter.isOverCapacity());
+    }
+}
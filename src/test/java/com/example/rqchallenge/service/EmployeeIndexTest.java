@@ -0,0 +1,187 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeQuery;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeIndexTest {
+
+    @Test
+    public void testDiffAndApply_UpdatesDerivedStructures() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""),
+                new Employee("3", "Mike Tyson", "70000", "35", "")), false);
+        List<Employee> current = Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "90000", "25", ""),
+                new Employee("4", "Bruce Wayne", "80000", "40", ""));
+
+        // Act
+        EmployeeSnapshotDiff diff = index.diff(current);
+        index.apply(diff);
+
+        // Assert
+        assertEquals("4", diff.getAdded().get(0).getId());
+        assertEquals("3", diff.getRemoved().get(0).getId());
+        assertEquals("2", diff.getUpdated().get(0).getId());
+        assertEquals(3, index.size());
+        assertNull(index.get("3"));
+        assertEquals(90000, index.getHighestSalary());
+        assertEquals(Arrays.asList("Jane Smith", "Bruce Wayne", "John Doe"),
+                index.getTopEarners(10).stream().map(Employee::getEmployeeName).collect(Collectors.toList()));
+        assertTrue(index.searchByName("mike").isEmpty());
+        assertEquals("Bruce Wayne", index.searchByName("WAYNE").get(0).getEmployeeName());
+    }
+
+    @Test
+    public void testDiff_NoChanges() {
+        // Arrange
+        List<Employee> employees = Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""));
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(employees, false);
+
+        // Act
+        EmployeeSnapshotDiff diff = index.diff(Arrays.asList(
+                new Employee("2", "Jane Smith", "60000", "25", ""),
+                new Employee("1", "John Doe", "50000", "30", "")));
+
+        // Assert
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void testPutAndRemove_InvalidateEmployeeList() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(new Employee("1", "John Doe", "50000", "30", "")), false);
+        long version = index.getVersion();
+        assertEquals(1, index.getEmployees().size());
+
+        // Act
+        index.put(new Employee("2", "Jane Smith", "60000", "25", ""));
+        index.remove("1");
+
+        // Assert
+        assertEquals(1, index.getEmployees().size());
+        assertEquals("2", index.getEmployees().get(0).getId());
+        assertEquals(60000, index.getHighestSalary());
+        assertEquals(version + 2, index.getVersion());
+    }
+
+    @Test
+    public void testQuery_CombinesRangesNameAndSort() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""),
+                new Employee("3", "Mike Tyson", "70000", "35", ""),
+                new Employee("4", "Bruce Wayne", "80000", "40", ""),
+                new Employee("5", "Johnny Bravo", "90000", "28", "")), false);
+        EmployeeQuery query = new EmployeeQuery();
+        query.setMinSalary(55000);
+        query.setMaxAge(36);
+        query.setSort(EmployeeQuery.SORT_SALARY_DESC);
+
+        // Act
+        List<Employee> bySalary = index.query(query);
+        query.setSearchString("JOHN");
+        List<Employee> byName = index.query(query);
+        query.setSearchString(null);
+        query.setSort(null);
+        query.setLimit(2);
+        List<Employee> inUpstreamOrder = index.query(query);
+
+        // Assert
+        assertEquals(Arrays.asList("5", "3", "2"), bySalary.stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("5"), byName.stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("2", "3"), inUpstreamOrder.stream().map(Employee::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDescendingOrders_KeepTiesInUpstreamOrder() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "90000", "25", ""),
+                new Employee("3", "Mike Tyson", "70000", "30", ""),
+                new Employee("4", "Bruce Wayne", "90000", "40", ""),
+                new Employee("5", "Johnny Bravo", "70000", "28", "")), false);
+        EmployeeQuery query = new EmployeeQuery();
+        query.setMinSalary(60000);
+        query.setSort(EmployeeQuery.SORT_SALARY_DESC);
+        EmployeeQuery byAge = new EmployeeQuery();
+        byAge.setSort(EmployeeQuery.SORT_AGE_DESC);
+
+        // Act
+        List<Employee> topEarners = index.getTopEarners(3);
+        List<Employee> bySalary = index.query(query);
+        List<Employee> oldestFirst = index.query(byAge);
+
+        // Assert
+        assertEquals(Arrays.asList("2", "4", "3"), topEarners.stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("2", "4", "3", "5"), bySalary.stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("4", "1", "3", "5", "2"),
+                oldestFirst.stream().map(Employee::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetEmployees_ReturnedExactlyAsSent() {
+        // Arrange
+        List<Employee> employees = Arrays.asList(
+                new Employee("1", "Tiger Nixon", "320800", "61", ""),
+                new Employee("007", "James Bond", "050000", " 40", null),
+                new Employee("abc", null, "not a number", "", "https://example.com/avatar.png"),
+                new Employee("99999999999999999999", "tiger nixon", null, "-1", ""));
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(employees, false);
+
+        // Act
+        List<Employee> stored = index.getEmployees();
+        EmployeeSnapshotDiff diff = index.diff(Arrays.asList(
+                new Employee("1", "Tiger Nixon", "320800", "61", ""),
+                new Employee("007", "James Bond", "50000", " 40", null),
+                new Employee("abc", null, "not a number", "", "https://example.com/avatar.png"),
+                new Employee("99999999999999999999", "tiger nixon", null, "-1", "")));
+
+        // Assert
+        assertEquals(employees.size(), stored.size());
+        for (int i = 0; i < employees.size(); i++) {
+            assertEquals(employees.get(i).getId(), stored.get(i).getId());
+            assertEquals(employees.get(i).getEmployeeName(), stored.get(i).getEmployeeName());
+            assertEquals(employees.get(i).getEmployeeSalary(), stored.get(i).getEmployeeSalary());
+            assertEquals(employees.get(i).getEmployeeAge(), stored.get(i).getEmployeeAge());
+            assertEquals(employees.get(i).getProfileImage(), stored.get(i).getProfileImage());
+        }
+        assertEquals("James Bond", index.get("007").getEmployeeName());
+        assertNull(index.get("7"));
+        assertEquals(2, index.searchByName("TIGER").size());
+        assertEquals(Arrays.asList("007"), diff.getUpdated().stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(1, diff.size());
+    }
+
+    @Test
+    public void testQuery_UnsupportedSort() {
+        // Arrange
+        EmployeeIndex index = new EmployeeIndex();
+        index.rebuild(Arrays.asList(new Employee("1", "John Doe", "50000", "30", "")), false);
+        EmployeeQuery query = new EmployeeQuery();
+        query.setSort("name");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.query(query));
+    }
+}
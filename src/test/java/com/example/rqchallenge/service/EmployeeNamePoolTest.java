@@ -0,0 +1,31 @@
+package com.example.rqchallenge.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeNamePoolTest {
+
+    @Test
+    public void testAcquire_SharesNamesUntilLastRelease() {
+        // Arrange
+        EmployeeNamePool pool = new EmployeeNamePool();
+
+        // Act
+        EmployeeNamePool.Name first = pool.acquire(new String("Tiger Nixon"));
+        EmployeeNamePool.Name second = pool.acquire(new String("Tiger Nixon"));
+        EmployeeNamePool.Name lowerCase = pool.acquire("tiger nixon");
+        pool.release(first);
+        int afterFirstRelease = pool.size();
+        pool.release(second);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("tiger nixon", first.lowerCase);
+        assertSame(lowerCase.value, lowerCase.lowerCase);
+        assertEquals(2, afterFirstRelease);
+        assertEquals(1, pool.size());
+        assertSame(EmployeeNamePool.EMPTY, pool.acquire(""));
+        assertNull(pool.acquire(null));
+    }
+}
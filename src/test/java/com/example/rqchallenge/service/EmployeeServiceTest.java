@@ -4,6 +4,9 @@ import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.EmployeeApiResponse;
 import com.example.rqchallenge.model.Employee;
 import com.example.rqchallenge.model.CreateEmployeeResponse;
+import com.example.rqchallenge.model.EmployeeChangeEvent;
+import com.example.rqchallenge.model.NameSuggestion;
+import com.example.rqchallenge.config.RequestDeadline;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.client.ResourceAccessException;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,7 +41,7 @@ public class EmployeeServiceTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeService(restTemplate, "https://dummy.restapiexample.com/api/v1");
+        employeeService = TestEmployeeServices.create(restTemplate, "https://dummy.restapiexample.com/api/v1");
     }
 
     @Test
@@ -89,6 +99,142 @@ public class EmployeeServiceTest {
         );
     }
 
+    @Test
+    public void testGetAllEmployees_FirstLoadIgnoresCallerDeadline() throws InterruptedException {
+        // Arrange: like UpstreamDeadlineInterceptor, the upstream call fails once the current deadline has passed
+        List<Employee> employeeList = Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""));
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenAnswer(invocation -> {
+            Duration remaining = RequestDeadline.remaining();
+            if (remaining != null && (remaining.isNegative() || remaining.isZero())) {
+                throw new ResourceAccessException("Request deadline passed");
+            }
+            return ResponseEntity.ok(new EmployeeApiResponse<>("success", employeeList));
+        });
+        RequestDeadline.start(Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // Act
+        List<Employee> result;
+        Long callerDeadline;
+        try {
+            result = employeeService.getAllEmployees();
+            callerDeadline = RequestDeadline.current();
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        // Assert
+        assertEquals(2, result.size());
+        assertFalse(employeeService.getSnapshotStatus().isFallback());
+        assertNotNull(callerDeadline);  // The caller's own deadline is back in place afterwards
+    }
+
+    @Test
+    public void testPreload_LoadsSnapshotOnce() {
+        // Arrange
+        List<Employee> employeeList = Arrays.asList(
+                new Employee("1", "John Doe", "50000", "30", ""),
+                new Employee("2", "Jane Smith", "60000", "25", ""));
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", employeeList)));
+
+        // Act
+        int preloaded = employeeService.preload();
+        List<NameSuggestion> suggestions = employeeService.getNameSuggestions("ja", 10);
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(2, preloaded);
+        assertEquals("Jane Smith", suggestions.get(0).getEmployeeName());
+        assertEquals(2, result.size());
+        verify(restTemplate, times(1)).exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    public void testGetAllEmployees_ConnectionErrorRecordsFlightRecorderEvents() throws Exception {
+        // Arrange
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenThrow(new ResourceAccessException("Connection refused"));
+        Path recordingFile = Files.createTempFile("employee-service", ".jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.rqchallenge.Fallback");
+            recording.enable("com.example.rqchallenge.SnapshotLoad");
+            recording.start();
+            employeeService.getAllEmployees();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.deleteIfExists(recordingFile);
+
+        // Assert
+        RecordedEvent fallback = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.rqchallenge.Fallback"))
+                .findFirst()
+                .orElseThrow();
+        RecordedEvent snapshotLoad = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.rqchallenge.SnapshotLoad"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("fetchEmployees", fallback.getString("operation"));
+        assertEquals("connection error", fallback.getString("reason"));
+        assertEquals("fallback", snapshotLoad.getString("kind"));
+        assertEquals(24, snapshotLoad.getInt("employees"));
+    }
+
+    @Test
+    public void testRefreshEmployees_PublishesSnapshotChanges() {
+        // Arrange
+        EmployeeChangeFeed changeFeed = new EmployeeChangeFeed(16, 16, 1, 16);
+        employeeService = TestEmployeeServices.create(restTemplate, "https://dummy.restapiexample.com/api/v1", changeFeed);
+
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        Employee employee3 = new Employee("3", "Mike Tyson", "70000", "35", "");
+
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee2))))
+          .thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee3))));
+
+        // Act
+        employeeService.getAllEmployees();  // Baseline snapshot, no events
+        employeeService.refreshEmployees();
+
+        // Assert
+        List<EmployeeChangeEvent> events = changeFeed.eventsAfter(0).get();
+        assertEquals(2, events.size());
+        assertEquals(EmployeeChangeEvent.REMOVED, events.get(0).getType());
+        assertEquals("2", events.get(0).getId());
+        assertEquals(EmployeeChangeEvent.ADDED, events.get(1).getType());
+        assertEquals("3", events.get(1).getId());
+    }
+
     @Test
     public void testGetEmployeesByNameSearch_MatchFound() {
         // Arrange
@@ -204,6 +350,57 @@ public class EmployeeServiceTest {
         );
     }
 
+    @Test
+    public void testGetEmployeeById_NotFoundIsCachedNegatively() {
+        // Arrange
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employee/999"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.status(404).body(new EmployeeApiResponse<>("error", null)));
+
+        // Act
+        Employee first = employeeService.getEmployeeById("999");
+        Employee second = employeeService.getEmployeeById("999");
+
+        // Assert
+        assertNull(first);
+        assertNull(second);
+        verify(restTemplate, times(1)).exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employee/999"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    public void testGetEmployeeById_UnknownToSnapshotSkipsUpstream() {
+        // Arrange
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employees"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee2))));
+        employeeService.getAllEmployees();
+
+        // Act
+        Employee result = employeeService.getEmployeeById("does-not-exist");
+
+        // Assert
+        assertNull(result);
+        verify(restTemplate, never()).exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employee/does-not-exist"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
     @Test
     public void testGetEmployeeById_ConnectionError() {
         // Arrange
@@ -376,6 +573,86 @@ public class EmployeeServiceTest {
         );
     }
 
+    @Test
+    public void testCreateEmployee_VisibleUntilUpstreamCatchesUp() {
+        // Arrange
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employees"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee2))));
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/create"),
+                eq(HttpMethod.POST),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success",
+                new CreateEmployeeResponse("Ann Lee", "70000", "41", "3"))));
+        employeeService.getAllEmployees();
+
+        // Act
+        employeeService.createEmployee(new CreateEmployeeRequest("Ann Lee", "70000", "41"));
+        employeeService.refreshEmployees();  // The upstream does not list the new employee yet
+        List<Employee> employees = employeeService.getAllEmployees();
+        Employee created = employeeService.getEmployeeById("3");
+
+        // Assert
+        assertEquals(3, employees.size());
+        assertEquals("Ann Lee", employees.get(2).getEmployeeName());
+        assertNotNull(created);
+        assertEquals("Ann Lee", created.getEmployeeName());
+        verify(restTemplate, never()).exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employee/3"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    public void testCreateAndDeleteEmployee_NameIndexesReflectTheWriteRightAway() {
+        // Arrange
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employees"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee2))));
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/create"),
+                eq(HttpMethod.POST),
+                any(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success",
+                new CreateEmployeeResponse("Ann Lee", "70000", "41", "3"))));
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/delete/2"),
+                eq(HttpMethod.DELETE),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", "successfully! deleted Record")));
+        employeeService.preload();  // Both name indexes are built for the loaded snapshot
+
+        // Act
+        employeeService.createEmployee(new CreateEmployeeRequest("Ann Lee", "70000", "41"));
+        employeeService.deleteEmployee("2");
+        List<NameSuggestion> suggestions = employeeService.getNameSuggestions("ann", 10);
+        List<Employee> fuzzyAfterCreate = employeeService.getEmployeesByFuzzyNameSearch("Anne", 1);
+        List<Employee> fuzzyAfterDelete = employeeService.getEmployeesByFuzzyNameSearch("Jane", 1);
+
+        // Assert
+        assertEquals(1, suggestions.size());
+        assertEquals("3", suggestions.get(0).getId());
+        assertEquals(1, fuzzyAfterCreate.size());
+        assertEquals("Ann Lee", fuzzyAfterCreate.get(0).getEmployeeName());
+        assertTrue(fuzzyAfterDelete.isEmpty());
+    }
+
     @Test
     public void testCreateEmployee_ConnectionError() {
         // Arrange
@@ -470,6 +747,39 @@ public class EmployeeServiceTest {
         );
     }
 
+    @Test
+    public void testDeleteEmployee_NameFromSnapshotSkipsUpstreamFetch() {
+        // Arrange
+        Employee employee1 = new Employee("1", "John Doe", "50000", "30", "");
+        Employee employee2 = new Employee("2", "Jane Smith", "60000", "25", "");
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employees"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", Arrays.asList(employee1, employee2))));
+        when(restTemplate.exchange(
+                eq("https://dummy.restapiexample.com/api/v1/delete/2"),
+                eq(HttpMethod.DELETE),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(ResponseEntity.ok(new EmployeeApiResponse<>("success", "successfully! deleted Record")));
+        employeeService.getAllEmployees();
+
+        // Act
+        String result = employeeService.deleteEmployee("2");
+
+        // Assert
+        assertEquals("Jane Smith", result);
+        assertEquals(1, employeeService.getAllEmployees().size());
+        verify(restTemplate, never()).exchange(
+                eq("https://dummy.restapiexample.com/api/v1/employee/2"),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
     @Test
     public void testDeleteEmployee_NotFound() {
         // Arrange
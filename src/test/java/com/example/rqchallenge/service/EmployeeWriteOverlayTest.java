@@ -0,0 +1,66 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeWriteOverlayTest {
+
+    private final Employee tiger = new Employee("1", "Tiger Nixon", "320800", "61", "");
+    private final Employee garrett = new Employee("2", "Garrett Winters", "170750", "63", "");
+    private final Employee created = new Employee("25", "John Doe", "50000", "30", "");
+
+    @Test
+    public void testReconcile_KeepsWritesTheSnapshotDoesNotShow() {
+        // Arrange
+        EmployeeWriteOverlay overlay = new EmployeeWriteOverlay(60000);
+        overlay.created(created);
+        overlay.deleted("2");
+
+        // Act
+        List<Employee> employees = overlay.reconcile(Arrays.asList(tiger, garrett));
+
+        // Assert
+        assertEquals(Arrays.asList(tiger, created), employees);
+        assertEquals(2, overlay.size());
+        assertSame(created, overlay.getCreated("25"));
+        assertTrue(overlay.isDeleted("2"));
+    }
+
+    @Test
+    public void testReconcile_ForgetsWritesTheSnapshotReflects() {
+        // Arrange
+        EmployeeWriteOverlay overlay = new EmployeeWriteOverlay(60000);
+        Employee upstreamCopy = new Employee("25", "John Doe", "50000", "30", "");
+        overlay.created(created);
+        overlay.deleted("2");
+
+        // Act
+        List<Employee> employees = overlay.reconcile(Arrays.asList(tiger, upstreamCopy));
+
+        // Assert
+        assertEquals(Arrays.asList(tiger, upstreamCopy), employees);
+        assertEquals(0, overlay.size());
+        assertNull(overlay.getCreated("25"));
+        assertFalse(overlay.isDeleted("2"));
+    }
+
+    @Test
+    public void testReconcile_ForgetsExpiredWrites() {
+        // Arrange
+        EmployeeWriteOverlay overlay = new EmployeeWriteOverlay(0);
+        overlay.created(created);
+
+        // Act
+        List<Employee> employees = overlay.reconcile(Arrays.asList(tiger, garrett));
+
+        // Assert
+        assertEquals(Arrays.asList(tiger, garrett), employees);
+        assertEquals(0, overlay.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuzzyNameIndexTest {
+
+    private final FuzzyNameIndex index = FuzzyNameIndex.build(Arrays.asList(
+            new Employee("1", "Tiger Nixon", "320800", "61", ""),
+            new Employee("2", "Tigre Nixen", "170750", "63", ""),
+            new Employee("3", "Ashton Cox", "86000", "66", "")));
+
+    @Test
+    public void testSearch_RanksByDistance() {
+        // Act
+        List<Employee> matches = index.search("Nixon", 2);
+
+        // Assert
+        assertEquals(Arrays.asList("1", "2"), matches.stream().map(Employee::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSearch_EveryQueryWordMustMatch() {
+        // Act & Assert
+        assertEquals("3", index.search("ashtom coxx", 1).get(0).getId());
+        assertTrue(index.search("tiger cox", 1).isEmpty());
+        assertTrue(index.search("nixxxxon", 2).isEmpty());
+    }
+
+    @Test
+    public void testEditDistance() {
+        // Act & Assert
+        assertEquals(3, FuzzyNameIndex.editDistance("kitten", "sitting"));
+        assertEquals(0, FuzzyNameIndex.editDistance("cox", "cox"));
+        assertEquals(3, FuzzyNameIndex.editDistance("", "cox"));
+    }
+
+    @Test
+    public void testDistance_AgreesWithSearchRanking() {
+        // Act & Assert
+        assertEquals(1, FuzzyNameIndex.distance(FuzzyNameIndex.words("Nixen"), "Tiger Nixon", 2));
+        assertEquals(2, FuzzyNameIndex.distance(FuzzyNameIndex.words("ashtom coxx"), "Ashton Cox", 1));
+        assertEquals(-1, FuzzyNameIndex.distance(FuzzyNameIndex.words("tiger cox"), "Tiger Nixon", 1));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSuggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameAutocompleteIndexTest {
+
+    private final NameAutocompleteIndex index = NameAutocompleteIndex.build(snapshot(
+            new Employee("1", "Tiger Nixon", "320800", "61", ""),
+            new Employee("2", "Tina Tiger", "170750", "63", ""),
+            new Employee("3", "Ashton Cox", "86000", "66", "")));
+
+    private static EmployeeIndex snapshot(Employee... employees) {
+        EmployeeIndex snapshot = new EmployeeIndex();
+        snapshot.rebuild(Arrays.asList(employees), false);
+        return snapshot;
+    }
+
+    @Test
+    public void testSuggest_MatchesStartOfAnyWordOnce() {
+        // Act
+        List<NameSuggestion> suggestions = index.suggest("TI", 10);
+
+        // Assert
+        assertEquals(Arrays.asList("2", "1"), suggestions.stream().map(NameSuggestion::getId).collect(Collectors.toList()));
+        assertEquals("Tina Tiger", suggestions.get(0).getEmployeeName());
+    }
+
+    @Test
+    public void testSuggest_RespectsLimitAndMisses() {
+        // Act & Assert
+        assertEquals(1, index.suggest("tiger", 1).size());
+        assertEquals("3", index.suggest("cox", 10).get(0).getId());
+        assertTrue(index.suggest("ton", 10).isEmpty());
+        assertTrue(index.suggest("zzz", 10).isEmpty());
+    }
+
+    @Test
+    public void testSuggest_IdsAndNamesAsSent() {
+        // Arrange
+        NameAutocompleteIndex sent = NameAutocompleteIndex.build(snapshot(
+                new Employee("007", "Tiger Nixon", "320800", "61", ""),
+                new Employee("42", "Tina Tiger", "170750", "63", ""),
+                new Employee("a-3", null, "86000", "66", "")));
+
+        // Act
+        List<NameSuggestion> suggestions = sent.suggest("ti", 10);
+
+        // Assert
+        assertEquals(Arrays.asList("42", "007"), suggestions.stream().map(NameSuggestion::getId).collect(Collectors.toList()));
+        assertEquals("Tiger Nixon", suggestions.get(1).getEmployeeName());
+        assertTrue(sent.suggest("", 10).stream().noneMatch(suggestion -> suggestion.getId().equals("a-3")));
+    }
+
+    @Test
+    public void testMatchingSuffix_FirstSortingMatchingWord() {
+        // Act & Assert
+        assertEquals("tiger", NameAutocompleteIndex.matchingSuffix("tina tiger", "ti"));
+        assertEquals("tina tiger", NameAutocompleteIndex.matchingSuffix("tina tiger", "tin"));
+        assertNull(NameAutocompleteIndex.matchingSuffix("ashton cox", "ton"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.ReadinessResponse;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadinessMonitorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCheck_UpWhenSnapshotLoadedAndUpstreamReachable() throws IOException {
+        // Arrange
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.getSnapshotStatus()).thenReturn(
+                new EmployeeSnapshotStatus(true, false, 24, 1, Instant.now(), 10, 1),
+                new EmployeeSnapshotStatus(true, false, 24, 1, Instant.now(), 20, 9));
+        ObjectProvider<PoolingHttpClientConnectionManager> pool = mock(ObjectProvider.class);
+        when(pool.getIfAvailable()).thenReturn(new PoolingHttpClientConnectionManager());
+        ApplicationAvailability availability = mock(ApplicationAvailability.class);
+        when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
+        // Act
+        ReadinessResponse first;
+        ReadinessResponse second;
+        try (ServerSocket upstream = new ServerSocket(0)) {
+            ReadinessMonitor monitor = new ReadinessMonitor(employeeService, pool, availability,
+                    UpstreamShards.single("http://localhost:" + upstream.getLocalPort() + "/api/v1"), 1000, 600000, 0.5);
+            monitor.check();
+            first = monitor.getReadiness();
+            monitor.check();
+            second = monitor.getReadiness();
+        }
+
+        // Assert
+        assertEquals(ReadinessMonitor.UP, first.getStatus());
+        assertTrue(first.isUpstreamReachable());
+        assertEquals(24, first.getSnapshotEmployees());
+        assertEquals(0.1, first.getFallbackRate(), 0.0001);
+        assertEquals(0, first.getPoolLeased());
+        assertEquals(ReadinessMonitor.DEGRADED, second.getStatus());
+        assertEquals(0.8, second.getFallbackRate(), 0.0001);
+        verify(employeeService, never()).preload();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCheck_DegradedWhileServingDefaultList() throws IOException {
+        // Arrange
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.getSnapshotStatus()).thenReturn(
+                new EmployeeSnapshotStatus(false, false, 0, 0, null, 0, 0),
+                new EmployeeSnapshotStatus(true, true, 24, 0, null, 1, 1));
+        ObjectProvider<PoolingHttpClientConnectionManager> pool = mock(ObjectProvider.class);
+        ApplicationAvailability availability = mock(ApplicationAvailability.class);
+        when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        ReadinessMonitor monitor = new ReadinessMonitor(employeeService, pool, availability,
+                UpstreamShards.single("http://localhost:" + closedPort + "/api/v1"), 1000, 600000, 0.5);
+
+        // Act
+        ReadinessResponse beforeCheck = monitor.getReadiness();
+        monitor.check();
+        ReadinessResponse readiness = monitor.getReadiness();
+
+        // Assert
+        assertEquals(ReadinessMonitor.DOWN, beforeCheck.getStatus());
+        assertEquals(ReadinessMonitor.DEGRADED, readiness.getStatus());
+        assertFalse(readiness.isUpstreamReachable());
+        assertNull(readiness.getUpstreamConnectMillis());
+        assertTrue(readiness.isSnapshotFallback());
+        assertNull(readiness.getPoolLeased());
+        assertEquals(3, readiness.getReasons().size());
+        verify(employeeService).preload();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetReadiness_DownUntilAcceptingTraffic() throws IOException {
+        // Arrange
+        EmployeeService employeeService = mock(EmployeeService.class);
+        when(employeeService.getSnapshotStatus()).thenReturn(new EmployeeSnapshotStatus(true, false, 24, 0, Instant.now(), 0, 0));
+        ApplicationAvailability availability = mock(ApplicationAvailability.class);
+        when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC, ReadinessState.REFUSING_TRAFFIC);
+
+        // Act
+        ReadinessResponse readiness;
+        try (ServerSocket upstream = new ServerSocket(0)) {
+            ReadinessMonitor monitor = new ReadinessMonitor(employeeService, mock(ObjectProvider.class), availability,
+                    UpstreamShards.single("http://localhost:" + upstream.getLocalPort()), 1000, 600000, 0.5);
+            monitor.check();
+            readiness = monitor.getReadiness();
+        }
+
+        // Assert
+        assertEquals(ReadinessMonitor.DOWN, readiness.getStatus());
+        assertEquals("Application is not accepting traffic yet", readiness.getReasons().get(0));
+    }
+}
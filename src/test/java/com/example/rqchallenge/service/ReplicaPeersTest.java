@@ -0,0 +1,139 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.stub.StubUpstreamOptions;
+import com.example.rqchallenge.stub.StubUpstreamServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the application as the replica ranked first, loading from a stub upstream, and a second replica in the
+ * test that loads from it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "employees.peers.enabled=true",
+        "employees.peers.members=http://replica-1",
+        "employees.peers.self-url=http://replica-1"
+})
+public class ReplicaPeersTest {
+
+    private static final String UNREACHABLE = "http://127.0.0.1:1";
+
+    private static StubUpstreamServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        StubUpstreamOptions options = new StubUpstreamOptions();
+        options.setEmployees(50);
+        stub = new StubUpstreamServer(options).start();
+        registry.add("api.base.url", stub::getBaseUrl);
+    }
+
+    @AfterAll
+    public static void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    public void testGetAhead_RanksReplicasListedBeforeSelf() {
+        // Arrange
+        List<String> members = Arrays.asList("http://a:8080", "http://b:8080/", "http://c:8080");
+
+        // Act & Assert
+        assertEquals(List.of("http://a:8080"), new ReplicaPeers(members, "http://b:8080", null).getAhead());
+        assertFalse(new ReplicaPeers(members, "http://a:8080", null).hasReplicasAhead());
+        assertEquals(List.of("http://a:8080", "http://b:8080", "http://c:8080"),
+                new ReplicaPeers(members, "http://d:8080", null).getAhead());  // Not listed, so ranked last
+        assertFalse(ReplicaPeers.none().hasReplicasAhead());
+    }
+
+    @Test
+    public void testChecksum_CoversEveryFieldInOrder() {
+        // Arrange
+        Employee first = new Employee("1", "Tiger Nixon", "320800", "61", "");
+        Employee second = new Employee("2", "Garrett Winters", "170750", "63", "");
+
+        // Act
+        String checksum = SnapshotChecksum.of(List.of(first, second));
+
+        // Assert
+        assertEquals(checksum, SnapshotChecksum.of(List.of(new Employee("1", "Tiger Nixon", "320800", "61", ""), second)));
+        assertNotEquals(checksum, SnapshotChecksum.of(List.of(second, first)));
+        assertNotEquals(checksum, SnapshotChecksum.of(List.of(new Employee("1", "Tiger Nixon", "320801", "61", ""), second)));
+        assertNotEquals(SnapshotChecksum.of(List.of(new Employee("1", "ab", "", "", ""))),
+                SnapshotChecksum.of(List.of(new Employee("1", "a", "b", "", ""))));
+        assertNotEquals(SnapshotChecksum.of(List.of(new Employee("1", "", "", "", ""))),
+                SnapshotChecksum.of(List.of(new Employee("1", null, "", "", ""))));
+    }
+
+    @Test
+    public void testRefreshEmployees_LoadsFromFirstReplicaThatAnswers() {
+        // Arrange: the first replica ahead is down, the second is the application
+        String leader = "http://127.0.0.1:" + port;
+        List<Integer> statuses = Collections.synchronizedList(new ArrayList<>());
+        EmployeeService follower = follower(List.of(UNREACHABLE, leader, "http://replica-3"), statuses);
+
+        // Act
+        List<Employee> employees = follower.getAllEmployees();
+        long upstreamLoads = stub.getRequestCount("GET /employees");
+        follower.refreshEmployees();
+
+        // Assert
+        assertEquals(50, employees.size());
+        assertEquals(List.of(200, 304), statuses);  // The unchanged snapshot is not sent again
+        assertEquals(upstreamLoads, stub.getRequestCount("GET /employees"));
+        EmployeeSnapshotStatus status = follower.getSnapshotStatus();
+        assertEquals(leader, status.getSource());
+        assertEquals(0, status.getUpstreamCalls());
+        assertFalse(status.isFallback());
+        assertNotNull(status.getUpstreamLoadedAt());
+    }
+
+    @Test
+    public void testRefreshEmployees_LoadsFromUpstreamWhenNoReplicaAheadAnswers() {
+        // Arrange
+        List<Integer> statuses = Collections.synchronizedList(new ArrayList<>());
+        EmployeeService follower = follower(List.of(UNREACHABLE, "http://replica-2"), statuses);
+        long upstreamLoads = stub.getRequestCount("GET /employees");
+
+        // Act
+        List<Employee> employees = follower.getAllEmployees();
+
+        // Assert
+        assertEquals(50, employees.size());
+        assertEquals(upstreamLoads + 1, stub.getRequestCount("GET /employees"));
+        assertNull(follower.getSnapshotStatus().getSource());
+        assertEquals(1, follower.getSnapshotStatus().getUpstreamCalls());
+    }
+
+    // The last member, recording the status of every HTTP response it receives
+    private EmployeeService follower(List<String> members, List<Integer> statuses) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            ClientHttpResponse response = execution.execute(request, body);
+            statuses.add(response.getRawStatusCode());
+            return response;
+        });
+        ReplicaPeers peers = new ReplicaPeers(members, members.get(members.size() - 1), Duration.ofSeconds(5));
+        return TestEmployeeServices.create(restTemplate, UpstreamShards.single(stub.getBaseUrl()), peers);
+    }
+}
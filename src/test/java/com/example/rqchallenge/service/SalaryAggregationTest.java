@@ -0,0 +1,68 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.SalaryAggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalaryAggregationTest {
+
+    @Test
+    public void testAggregate_BucketsIncludeLowerBound() {
+        // Arrange
+        int[] ages = {19, 20, 29, 30, 45};
+        int[] salaries = {10, 20, 30, 40, 50};
+
+        // Act
+        List<SalaryAggregate> aggregates = SalaryAggregation.aggregate(ages, salaries, new int[]{20, 30, 40},
+                ForkJoinPool.commonPool());
+
+        // Assert
+        assertEquals(4, aggregates.size());
+        assertNull(aggregates.get(0).getFrom());
+        assertEquals(20, aggregates.get(0).getTo());
+        assertEquals(1, aggregates.get(0).getCount());
+        assertEquals(2, aggregates.get(1).getCount());
+        assertEquals(50, aggregates.get(1).getSalarySum());
+        assertEquals(20, aggregates.get(1).getSalaryMin());
+        assertEquals(30, aggregates.get(1).getSalaryMax());
+        assertEquals(25.0, aggregates.get(1).getSalaryAverage());
+        assertEquals(1, aggregates.get(2).getCount());
+        assertEquals(40, aggregates.get(3).getFrom());
+        assertNull(aggregates.get(3).getTo());
+    }
+
+    @Test
+    public void testAggregate_ParallelMatchesSequential() {
+        // Arrange
+        int size = SalaryAggregation.SEQUENTIAL_THRESHOLD * 5 + 17;
+        Random random = new Random(7);
+        int[] ages = new int[size];
+        int[] salaries = new int[size];
+        for (int i = 0; i < size; i++) {
+            ages[i] = 18 + random.nextInt(50);
+            salaries[i] = 30_000 + random.nextInt(500_000);
+        }
+        int[] boundaries = {25, 35, 45, 55};
+
+        // Act
+        List<SalaryAggregate> parallel = SalaryAggregation.aggregate(ages, salaries, boundaries, new ForkJoinPool(4));
+        List<SalaryAggregate> sequential = SalaryAggregation.aggregate(ages, salaries, boundaries, new ForkJoinPool(1));
+
+        // Assert
+        long total = 0;
+        for (int bucket = 0; bucket < parallel.size(); bucket++) {
+            assertEquals(sequential.get(bucket).getCount(), parallel.get(bucket).getCount());
+            assertEquals(sequential.get(bucket).getSalarySum(), parallel.get(bucket).getSalarySum());
+            assertEquals(sequential.get(bucket).getSalaryMin(), parallel.get(bucket).getSalaryMin());
+            assertEquals(sequential.get(bucket).getSalaryMax(), parallel.get(bucket).getSalaryMax());
+            total += parallel.get(bucket).getCount();
+        }
+        assertEquals(size, total);
+    }
+}
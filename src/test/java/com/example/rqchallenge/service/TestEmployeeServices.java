@@ -0,0 +1,44 @@
+package com.example.rqchallenge.service;
+
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds EmployeeService instances for tests, with the defaults of application.properties for everything a test
+ * does not pass in.
+ */
+public final class TestEmployeeServices {
+
+    private TestEmployeeServices() {
+    }
+
+    // A service over a single upstream
+    public static EmployeeService create(RestTemplate restTemplate, String baseUrl) {
+        return create(restTemplate, UpstreamShards.single(baseUrl));
+    }
+
+    // A service over a single upstream that publishes to the given change feed
+    public static EmployeeService create(RestTemplate restTemplate, String baseUrl, EmployeeChangeFeed changeFeed) {
+        return create(restTemplate, UpstreamShards.single(baseUrl), changeFeed);
+    }
+
+    public static EmployeeService create(RestTemplate restTemplate, UpstreamShards shards) {
+        return create(restTemplate, shards, ReplicaPeers.none());
+    }
+
+    // A replica that loads its snapshot from the replicas ahead of it when it can
+    public static EmployeeService create(RestTemplate restTemplate, UpstreamShards shards, ReplicaPeers peers) {
+        return create(restTemplate, shards, peers, new EmployeeChangeFeed(4096, 256, 4, 1000));
+    }
+
+    private static EmployeeService create(RestTemplate restTemplate, UpstreamShards shards, EmployeeChangeFeed changeFeed) {
+        return create(restTemplate, shards, ReplicaPeers.none(), changeFeed);
+    }
+
+    private static EmployeeService create(RestTemplate restTemplate, UpstreamShards shards, ReplicaPeers peers,
+                                          EmployeeChangeFeed changeFeed) {
+        return new EmployeeService(restTemplate, shards, peers, changeFeed,
+                new NegativeLookupCache(30000, 10000, new SimpleMeterRegistry()), 300000);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.stub.LatencyDistribution;
+import com.example.rqchallenge.stub.StubUpstreamOptions;
+import com.example.rqchallenge.stub.StubUpstreamServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpstreamShardsTest {
+
+    private final List<StubUpstreamServer> stubs = new ArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stubs.forEach(StubUpstreamServer::close);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testShardOf_NumericIdsModuloShardCount() {
+        // Arrange
+        UpstreamShards shards = new UpstreamShards(List.of(new UpstreamShards.Shard("http://a", null),
+                new UpstreamShards.Shard("http://b", null), new UpstreamShards.Shard("http://c", null)), true, executor);
+
+        // Act & Assert
+        assertEquals(1, shards.shardOf("7"));
+        assertEquals(0, shards.shardOf("9"));
+        assertEquals("http://c", shards.forId("5"));
+        assertTrue(shards.shardOf("abc") >= 0 && shards.shardOf("abc") < 3);  // Other ids are hashed
+        assertTrue(shards.shardOf("99999999999999999999") >= 0);
+        assertEquals(0, UpstreamShards.single("http://a").shardOf("7"));
+    }
+
+    @Test
+    public void testGetAllEmployees_MergesShardsAndRoutesIdsToTheirShard() throws IOException {
+        // Arrange
+        EmployeeService employeeService = serviceOver(shardedStubs(3, 90), Duration.ofSeconds(5), true);
+
+        // Act
+        List<Employee> employees = employeeService.getAllEmployees();
+        Employee employee = employeeService.getEmployeeById("8");
+        String status = employeeService.createEmployee(new CreateEmployeeRequest("Load Test", "100000", "30"));
+
+        // Assert
+        assertEquals(90, employees.size());
+        assertNotNull(employee);
+        assertEquals("8", employee.getId());
+        assertEquals(0, stubs.get(0).getRequestCount("GET /employee/{id}"));
+        assertEquals(0, stubs.get(1).getRequestCount("GET /employee/{id}"));
+        assertEquals(1, stubs.get(2).getRequestCount("GET /employee/{id}"));  // 8 modulo 3
+        assertEquals("success", status);
+        assertEquals(1, stubs.get(0).getRequestCount("POST /create"));
+        assertEquals(31, stubs.get(0).getEmployeeCount());
+    }
+
+    @Test
+    public void testGetAllEmployees_DeduplicatesEmployeesListedByTwoShards() throws IOException {
+        // Arrange: both stubs serve the whole dataset
+        StubUpstreamOptions options = new StubUpstreamOptions();
+        options.setEmployees(40);
+        EmployeeService employeeService = serviceOver(List.of(stub(options), stub(options)), Duration.ofSeconds(5), true);
+
+        // Act
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(40, employees.size());
+    }
+
+    @Test
+    public void testRefreshEmployees_KeepsSnapshotOfShardThatTimesOut() throws IOException {
+        // Arrange
+        EmployeeService employeeService = serviceOver(shardedStubs(2, 60), Duration.ofMillis(300), true);
+        employeeService.getAllEmployees();
+        stubs.get(1).getOptions().setLatency(LatencyDistribution.parse("fixed:2000"));
+
+        // Act
+        long start = System.nanoTime();
+        employeeService.refreshEmployees();
+        long refreshMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(refreshMillis < 1500, "Refresh waited " + refreshMillis + " ms for the slow shard");
+        assertEquals(60, employeeService.getAllEmployees().size());
+        assertFalse(employeeService.getSnapshotStatus().isFallback());
+    }
+
+    @Test
+    public void testRefreshEmployees_WithoutPartialResultsKeepsWholeSnapshot() throws IOException {
+        // Arrange
+        EmployeeService employeeService = serviceOver(shardedStubs(2, 60), Duration.ofSeconds(5), false);
+        employeeService.getAllEmployees();
+        new RestTemplate().delete(stubs.get(0).getBaseUrl() + "/delete/2");  // Removed upstream from shard 0
+        stubs.get(1).getOptions().setError5xxRate(1.0);
+
+        // Act
+        employeeService.refreshEmployees();
+
+        // Assert
+        assertEquals(60, employeeService.getAllEmployees().size());  // Shard 0's list alone is not applied
+    }
+
+    private List<StubUpstreamServer> shardedStubs(int shardCount, int employees) throws IOException {
+        List<StubUpstreamServer> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            StubUpstreamOptions options = new StubUpstreamOptions();
+            options.setEmployees(employees);
+            options.setShardIndex(shard);
+            options.setShardCount(shardCount);
+            shards.add(stub(options));
+        }
+        return shards;
+    }
+
+    private StubUpstreamServer stub(StubUpstreamOptions options) throws IOException {
+        StubUpstreamServer stub = new StubUpstreamServer(options).start();
+        stubs.add(stub);
+        return stub;
+    }
+
+    private EmployeeService serviceOver(List<StubUpstreamServer> shardStubs, Duration timeout, boolean allowPartial) {
+        List<UpstreamShards.Shard> shards = new ArrayList<>();
+        shardStubs.forEach(stub -> shards.add(new UpstreamShards.Shard(stub.getBaseUrl(), timeout)));
+        return TestEmployeeServices.create(new RestTemplate(), new UpstreamShards(shards, allowPartial, executor));
+    }
+}
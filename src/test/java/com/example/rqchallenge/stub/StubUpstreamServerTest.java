@@ -0,0 +1,93 @@
+package com.example.rqchallenge.stub;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.service.EmployeeService;
+import com.example.rqchallenge.service.TestEmployeeServices;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StubUpstreamServerTest {
+
+    private StubUpstreamServer stub;
+    private EmployeeService employeeService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StubUpstreamOptions options = new StubUpstreamOptions();
+        options.setEmployees(50);
+        stub = new StubUpstreamServer(options).start();
+        employeeService = TestEmployeeServices.create(new RestTemplate(), stub.getBaseUrl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    public void testGetAllEmployees_FromStub() {
+        // Act
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(50, result.size());
+        assertEquals(1, stub.getRequestCount("GET /employees"));
+    }
+
+    @Test
+    public void testGetEmployeeById_FromStub() {
+        // Act
+        Employee result = employeeService.getEmployeeById("7");
+
+        // Assert
+        assertNotNull(result);
+        assertEquals("7", result.getId());
+        assertEquals(1, stub.getRequestCount("GET /employee/{id}"));
+    }
+
+    @Test
+    public void testGetAllEmployees_InjectedServerErrorFallsBack() {
+        // Arrange
+        stub.getOptions().setError5xxRate(1.0);
+
+        // Act
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Assert
+        assertEquals(24, result.size());  // Default employee list has 24 employees
+    }
+
+    @Test
+    public void testCreateAndDeleteEmployee_AgainstStub() {
+        // Act
+        String status = employeeService.createEmployee(new CreateEmployeeRequest("Load Test", "100000", "30"));
+        String deletedName = employeeService.deleteEmployee("51");
+
+        // Assert
+        assertEquals("success", status);
+        assertEquals("Load Test", deletedName);
+        assertEquals(50, stub.getEmployeeCount());
+        assertEquals(1, stub.getRequestCount("POST /create"));
+        assertEquals(1, stub.getRequestCount("DELETE /delete/{id}"));
+    }
+
+    @Test
+    public void testLatencyDistribution_Parse() {
+        // Act & Assert
+        assertEquals(0, LatencyDistribution.parse("none").nextMillis(new Random(1)));
+        assertEquals(50, LatencyDistribution.parse("fixed:50").nextMillis(new Random(1)));
+        long uniform = LatencyDistribution.parse("uniform:10-20").nextMillis(new Random(1));
+        assertTrue(uniform >= 10 && uniform <= 20);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("bogus:1"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.rqchallenge.fixtures;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic employee datasets for benchmarks, the stub upstream and load tests.
+ *
+ * Names are drawn from Zipf-weighted first and last name pools so that a few names are very common
+ * and most are rare, which is closer to real directories than uniformly random strings.
+ */
+public final class EmployeeDataset {
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+        "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+        "Donald", "Ashley", "Steven", "Kimberly", "Paul", "Emily", "Andrew", "Donna", "Joshua", "Michelle",
+        "Kenneth", "Dorothy", "Kevin", "Carol", "Brian", "Amanda", "George", "Melissa", "Edward", "Deborah",
+        "Tiger", "Garrett", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+        "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+        "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell", "Carter", "Roberts",
+        "Nixon", "Winters", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst", "Frost",
+        "Gaines", "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva", "Byrd", "Little", "Greer", "Rios"
+    };
+
+    private EmployeeDataset() {
+    }
+
+    public static List<Employee> generate(int size, long seed) {
+        Random random = new Random(seed);
+        double[] firstNameWeights = zipfCumulative(FIRST_NAMES.length, 1.07);
+        double[] lastNameWeights = zipfCumulative(LAST_NAMES.length, 1.07);
+
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            String name = FIRST_NAMES[pick(firstNameWeights, random)] + " " + LAST_NAMES[pick(lastNameWeights, random)];
+            // Log-normal salaries centered around ~150k, clamped to a plausible range
+            int salary = (int) Math.max(30_000, Math.min(900_000, Math.exp(11.9 + 0.5 * random.nextGaussian())));
+            int age = 18 + random.nextInt(53);
+            employees.add(new Employee(String.valueOf(i), name, String.valueOf(salary), String.valueOf(age), ""));
+        }
+        return employees;
+    }
+
+    private static double[] zipfCumulative(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            total += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, Random random) {
+        double value = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value <= cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.rqchallenge.load;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of latency samples in nanoseconds. Not thread safe; each load worker keeps its own
+ * recorder and they are merged once the run is over.
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private boolean sorted;
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // Nearest-rank percentile, p in [0, 100]
+    public long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        return samples[Math.max(0, Math.min(count - 1, rank - 1))];
+    }
+
+    public long max() {
+        return percentile(100);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.rqchallenge.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Closed-loop load generator: each client thread sends one request, waits for the response and sends the next.
+ * Samples taken during the warm-up period are discarded.
+ */
+public class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final LoadScenario scenario;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public LoadGenerator(HttpClient httpClient, LoadScenario scenario, int concurrency, Duration warmup, Duration duration) {
+        this.httpClient = httpClient;
+        this.scenario = scenario;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        List<LoadReport> workerReports = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            LoadReport workerReport = new LoadReport(scenario.getName(), concurrency, duration);
+            Random random = new Random(i);
+            workerReports.add(workerReport);
+            workers.add(new Thread(() -> drive(workerReport, random, measureFrom, measureUntil), "load-client-" + i));
+        }
+
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        LoadReport report = new LoadReport(scenario.getName(), concurrency, duration);
+        for (LoadReport workerReport : workerReports) {
+            workerReport.getRoutes().forEach((route, stats) -> report.route(route).merge(stats));
+        }
+        return report;
+    }
+
+    private void drive(LoadReport report, Random random, long measureFrom, long measureUntil) {
+        while (System.nanoTime() < measureUntil) {
+            LoadScenario.Route route = scenario.pick(random);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = httpClient.send(route.newRequest(random), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureFrom) {
+                report.route(route.getName()).record(status, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.rqchallenge.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency percentiles per route for one load test run.
+ */
+public class LoadReport {
+
+    private final String scenario;
+    private final int concurrency;
+    private final Duration duration;
+    private final Map<String, RouteStats> routes = new TreeMap<>();
+
+    public LoadReport(String scenario, int concurrency, Duration duration) {
+        this.scenario = scenario;
+        this.concurrency = concurrency;
+        this.duration = duration;
+    }
+
+    public RouteStats route(String route) {
+        return routes.computeIfAbsent(route, key -> new RouteStats());
+    }
+
+    public Map<String, RouteStats> getRoutes() {
+        return routes;
+    }
+
+    public RouteStats total() {
+        RouteStats total = new RouteStats();
+        routes.values().forEach(total::merge);
+        return total;
+    }
+
+    public double throughput(RouteStats stats) {
+        return stats.getLatencies().getCount() / (duration.toMillis() / 1000.0);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Scenario '%s', %d concurrent clients, %d s measured%n", scenario, concurrency, duration.getSeconds());
+        out.printf("%-56s %8s %9s %8s %8s %8s %8s %8s  %s%n",
+                "Route", "Requests", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "Status codes");
+        routes.forEach((route, stats) -> printRow(out, route, stats));
+        printRow(out, "TOTAL", total());
+    }
+
+    private void printRow(PrintStream out, String route, RouteStats stats) {
+        LatencyRecorder latencies = stats.getLatencies();
+        out.printf("%-56s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f  %s%n",
+                route, latencies.getCount(), throughput(stats),
+                millis(latencies.percentile(50)), millis(latencies.percentile(90)), millis(latencies.percentile(99)),
+                millis(latencies.percentile(99.9)), millis(latencies.max()), stats.getStatusCounts());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public static class RouteStats {
+
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        // Status code per response, -1 for requests that failed without a response
+        private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+        public void record(int status, long nanos) {
+            latencies.record(nanos);
+            statusCounts.merge(status, 1L, Long::sum);
+        }
+
+        public void merge(RouteStats other) {
+            latencies.merge(other.latencies);
+            other.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+
+        public LatencyRecorder getLatencies() {
+            return latencies;
+        }
+
+        public Map<Integer, Long> getStatusCounts() {
+            return statusCounts;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.rqchallenge.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Weighted mix of EmployeeController routes to drive during a load test.
+ */
+public class LoadScenario {
+
+    private static final String[] SEARCH_TERMS = {"son", "John", "Smith", "Tiger%20Nixon", "ar", "zzz"};
+
+    private final String name;
+    private final List<Route> routes = new ArrayList<>();
+    private int totalWeight;
+
+    public LoadScenario(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Build one of the predefined scenarios.
+     *
+     * @param name        "reads", "writes", "mixed" or "isolation". The isolation scenario sends half of the requests
+     *                    to the upstream-bound routes and half to routes answered from the snapshot, to show
+     *                    whether a slow upstream holds back the in-memory routes.
+     * @param baseUrl     The application base URL, e.g. http://localhost:8080.
+     * @param datasetSize Number of employees known upstream, used to pick existing ids.
+     * @return The scenario.
+     */
+    public static LoadScenario named(String name, String baseUrl, int datasetSize) {
+        if ("isolation".equals(name)) {
+            return isolation(baseUrl, datasetSize);
+        }
+        boolean reads = "reads".equals(name) || "mixed".equals(name);
+        boolean writes = "writes".equals(name) || "mixed".equals(name);
+        if (!reads && !writes) {
+            throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+
+        int ids = Math.max(1, datasetSize);
+        LoadScenario scenario = new LoadScenario(name);
+        if (reads) {
+            scenario.add("GET /v1/employees", 5, random -> get(baseUrl + "/v1/employees"));
+            scenario.add("GET /v1/employees/search/{searchString}", 30, random ->
+                    get(baseUrl + "/v1/employees/search/" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]));
+            scenario.add("GET /v1/employees/{id}", 20, random -> get(baseUrl + "/v1/employees/" + (1 + random.nextInt(ids))));
+            scenario.add("GET /v1/employees/highestSalary", 20, random -> get(baseUrl + "/v1/employees/highestSalary"));
+            scenario.add("GET /v1/employees/top10HighestEarningEmployeeNames", 20, random ->
+                    get(baseUrl + "/v1/employees/top10HighestEarningEmployeeNames"));
+        }
+        if (writes) {
+            scenario.add("POST /v1/employees", 3, random -> createRequest(baseUrl, random));
+            scenario.add("DELETE /v1/employees/{id}", 2, random ->
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/v1/employees/" + (1 + random.nextInt(ids)))).DELETE().build());
+        }
+        return scenario;
+    }
+
+    private static LoadScenario isolation(String baseUrl, int datasetSize) {
+        int ids = Math.max(1, datasetSize);
+        LoadScenario scenario = new LoadScenario("isolation");
+        scenario.add("GET /v1/employees/{id}", 40, random -> get(baseUrl + "/v1/employees/" + (1 + random.nextInt(ids))));
+        scenario.add("POST /v1/employees", 5, random -> createRequest(baseUrl, random));
+        scenario.add("DELETE /v1/employees/{id}", 5, random ->
+                HttpRequest.newBuilder(URI.create(baseUrl + "/v1/employees/" + (1 + random.nextInt(ids)))).DELETE().build());
+        scenario.add("GET /v1/employees/search/{searchString}", 20, random ->
+                get(baseUrl + "/v1/employees/search/" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]));
+        scenario.add("GET /v1/employees/highestSalary", 15, random -> get(baseUrl + "/v1/employees/highestSalary"));
+        scenario.add("GET /v1/employees/top10HighestEarningEmployeeNames", 15, random ->
+                get(baseUrl + "/v1/employees/top10HighestEarningEmployeeNames"));
+        return scenario;
+    }
+
+    public LoadScenario add(String routeName, int weight, Function<Random, HttpRequest> requestFactory) {
+        routes.add(new Route(routeName, weight, requestFactory));
+        totalWeight += weight;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Route> getRoutes() {
+        return Collections.unmodifiableList(routes);
+    }
+
+    // Pick a route according to its weight
+    public Route pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Route route : routes) {
+            roll -= route.getWeight();
+            if (roll < 0) {
+                return route;
+            }
+        }
+        return routes.get(routes.size() - 1);
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static HttpRequest createRequest(String baseUrl, Random random) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/employees"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"Load Test " + random.nextInt(1_000_000) + "\",\"salary\":\"100000\",\"age\":\"30\"}"))
+                .build();
+    }
+
+    public static class Route {
+
+        private final String name;
+        private final int weight;
+        private final Function<Random, HttpRequest> requestFactory;
+
+        Route(String name, int weight, Function<Random, HttpRequest> requestFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.requestFactory = requestFactory;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public HttpRequest newRequest(Random random) {
+            return requestFactory.apply(random);
+        }
+    }
+}
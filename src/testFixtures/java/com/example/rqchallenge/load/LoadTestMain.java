@@ -0,0 +1,119 @@
+package com.example.rqchallenge.load;
+
+import com.example.rqchallenge.RqChallengeApplication;
+import com.example.rqchallenge.service.EmployeeService;
+import com.example.rqchallenge.stub.StubUpstreamOptions;
+import com.example.rqchallenge.stub.StubUpstreamServer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives EmployeeController end to end and prints throughput and latency percentiles.
+ *
+ * By default this starts a {@link StubUpstreamServer} and the application (on a random port, pointed at the stub)
+ * in the same JVM. Set {@code load.target} to load test an already running instance instead.
+ *
+ * Settings ({@code -P} properties of the {@code loadTest} Gradle task): load.scenario (reads, writes, mixed,
+ * isolation), load.concurrency, load.warmupSeconds, load.durationSeconds, load.target, load.appWarmup,
+ * load.serverThreads, load.shards, plus every stub.* option. With load.appWarmup=true the in-process application
+ * runs its start-up warm-up before load starts; combined with load.warmupSeconds=0 this compares cold-start
+ * latency with and without it. load.serverThreads caps the in-process application's Tomcat threads, so that
+ * request threads rather than the clients are the scarce resource. load.shards splits the dataset across that
+ * many stubs, each with the stub.* settings, and points the application at all of them; when it is set, the time
+ * of a full snapshot refresh is printed before load starts.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String scenarioName = System.getProperty("load.scenario", "mixed");
+        int concurrency = Integer.getInteger("load.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 10L));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.durationSeconds", 30L));
+        String target = System.getProperty("load.target");
+        boolean appWarmup = Boolean.getBoolean("load.appWarmup");
+        Integer serverThreads = Integer.getInteger("load.serverThreads");
+        boolean timeRefresh = System.getProperty("load.shards") != null;
+        int shards = Math.max(1, Integer.getInteger("load.shards", 1));
+
+        StubUpstreamOptions stubOptions = StubUpstreamOptions.fromSystemProperties();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        if (target != null) {
+            run(httpClient, LoadScenario.named(scenarioName, target, stubOptions.getEmployees()), concurrency, warmup, duration);
+            return;
+        }
+
+        List<StubUpstreamServer> stubs = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < shards; shard++) {
+                StubUpstreamOptions shardOptions = StubUpstreamOptions.fromSystemProperties();
+                if (shards > 1) {
+                    shardOptions.setPort(0);
+                    shardOptions.setShardIndex(shard);
+                    shardOptions.setShardCount(shards);
+                }
+                stubs.add(new StubUpstreamServer(shardOptions).start());
+            }
+
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--api.base.url=" + stubs.get(0).getBaseUrl(),
+                    "--warmup.enabled=" + appWarmup,
+                    "--logging.level.com.example.rqchallenge=WARN"));
+            if (shards > 1) {
+                for (int shard = 0; shard < shards; shard++) {
+                    appArgs.add("--upstream.sharding.shards[" + shard + "].url=" + stubs.get(shard).getBaseUrl());
+                }
+            }
+            if (serverThreads != null) {
+                appArgs.add("--server.tomcat.threads.max=" + serverThreads);
+            }
+            ConfigurableApplicationContext context = SpringApplication.run(RqChallengeApplication.class,
+                    appArgs.toArray(new String[0]));
+            try {
+                if (timeRefresh) {
+                    printRefreshTime(context.getBean(EmployeeService.class), shards);
+                }
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                run(httpClient, LoadScenario.named(scenarioName, baseUrl, stubOptions.getEmployees()), concurrency, warmup, duration);
+                for (int shard = 0; shard < shards; shard++) {
+                    System.out.println("Upstream requests received by stub " + shard + ": " + stubs.get(shard).getRequestCounts());
+                }
+            } finally {
+                context.close();
+            }
+        } finally {
+            stubs.forEach(StubUpstreamServer::close);
+        }
+    }
+
+    // Time full snapshot refreshes, which fetch the employee list from every shard in parallel
+    private static void printRefreshTime(EmployeeService employeeService, int shards) {
+        employeeService.preload();
+        int refreshes = 5;
+        long start = System.nanoTime();
+        for (int i = 0; i < refreshes; i++) {
+            employeeService.refreshEmployees();
+        }
+        long averageMillis = (System.nanoTime() - start) / refreshes / 1_000_000;
+        System.out.printf("Snapshot refresh from %d upstream shard(s): %d ms on average%n", shards, averageMillis);
+    }
+
+    private static void run(HttpClient httpClient, LoadScenario scenario, int concurrency,
+                            Duration warmup, Duration duration) throws InterruptedException {
+        LoadReport report = new LoadGenerator(httpClient, scenario, concurrency, warmup, duration).run();
+        report.print(System.out);
+    }
+}
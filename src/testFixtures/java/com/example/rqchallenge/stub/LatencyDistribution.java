@@ -0,0 +1,62 @@
+package com.example.rqchallenge.stub;
+
+import java.util.Random;
+
+/**
+ * Source of artificial response delays for the stub upstream.
+ *
+ * Specs are parsed from strings such as {@code none}, {@code fixed:50}, {@code uniform:10-100} or
+ * {@code lognormal:20,250} (median and p99 in milliseconds).
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long nextMillis(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    static LatencyDistribution logNormal(long medianMillis, long p99Millis) {
+        double mu = Math.log(medianMillis);
+        // 2.326 is the z-score of the 99th percentile of the standard normal distribution
+        double sigma = Math.log((double) p99Millis / medianMillis) / 2.326;
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || "none".equalsIgnoreCase(spec)) {
+            return none();
+        }
+
+        String[] parts = spec.split(":", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid latency spec: " + spec);
+        }
+
+        String type = parts[0].trim().toLowerCase();
+        String value = parts[1].trim();
+        switch (type) {
+            case "fixed":
+                return fixed(Long.parseLong(value));
+            case "uniform": {
+                String[] bounds = value.split("-");
+                return uniform(Long.parseLong(bounds[0].trim()), Long.parseLong(bounds[1].trim()));
+            }
+            case "lognormal": {
+                String[] bounds = value.split(",");
+                return logNormal(Long.parseLong(bounds[0].trim()), Long.parseLong(bounds[1].trim()));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + type);
+        }
+    }
+}
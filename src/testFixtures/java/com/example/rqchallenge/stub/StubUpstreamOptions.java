@@ -0,0 +1,137 @@
+package com.example.rqchallenge.stub;
+
+/**
+ * Settings for {@link StubUpstreamServer}. Every setting can be given as a {@code stub.*} system property.
+ * Fault and latency settings are read on every request, so tests may change them while the stub is running.
+ */
+public class StubUpstreamOptions {
+
+    private volatile String host = "127.0.0.1";
+    private volatile int port = 0;
+    private volatile int employees = 1000;
+    private volatile long seed = 42L;
+    private volatile int threads = 64;
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double error429Rate = 0;
+    private volatile double error5xxRate = 0;
+    private volatile int slowBodyChunkBytes = 0;
+    private volatile long slowBodyChunkDelayMillis = 0;
+    private volatile int shardIndex = 0;
+    private volatile int shardCount = 1;
+
+    // Read options from stub.* system properties, keeping the defaults for anything unset
+    public static StubUpstreamOptions fromSystemProperties() {
+        StubUpstreamOptions options = new StubUpstreamOptions();
+        options.setHost(System.getProperty("stub.host", options.getHost()));
+        options.setPort(Integer.getInteger("stub.port", options.getPort()));
+        options.setEmployees(Integer.getInteger("stub.employees", options.getEmployees()));
+        options.setSeed(Long.getLong("stub.seed", options.getSeed()));
+        options.setThreads(Integer.getInteger("stub.threads", options.getThreads()));
+        options.setLatency(LatencyDistribution.parse(System.getProperty("stub.latency", "none")));
+        options.setError429Rate(Double.parseDouble(System.getProperty("stub.error429Rate", "0")));
+        options.setError5xxRate(Double.parseDouble(System.getProperty("stub.error5xxRate", "0")));
+        options.setSlowBodyChunkBytes(Integer.getInteger("stub.slowBodyChunkBytes", 0));
+        options.setSlowBodyChunkDelayMillis(Long.getLong("stub.slowBodyChunkDelayMillis", 0L));
+        options.setShardIndex(Integer.getInteger("stub.shardIndex", 0));
+        options.setShardCount(Integer.getInteger("stub.shardCount", 1));
+        return options;
+    }
+
+    // Getters and Setters
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(int employees) {
+        this.employees = employees;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency;
+    }
+
+    public double getError429Rate() {
+        return error429Rate;
+    }
+
+    public void setError429Rate(double error429Rate) {
+        this.error429Rate = error429Rate;
+    }
+
+    public double getError5xxRate() {
+        return error5xxRate;
+    }
+
+    public void setError5xxRate(double error5xxRate) {
+        this.error5xxRate = error5xxRate;
+    }
+
+    public int getSlowBodyChunkBytes() {
+        return slowBodyChunkBytes;
+    }
+
+    public void setSlowBodyChunkBytes(int slowBodyChunkBytes) {
+        this.slowBodyChunkBytes = slowBodyChunkBytes;
+    }
+
+    public long getSlowBodyChunkDelayMillis() {
+        return slowBodyChunkDelayMillis;
+    }
+
+    public void setSlowBodyChunkDelayMillis(long slowBodyChunkDelayMillis) {
+        this.slowBodyChunkDelayMillis = slowBodyChunkDelayMillis;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.rqchallenge.stub;
+
+import com.example.rqchallenge.fixtures.EmployeeDataset;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the dummy.restapiexample.com API (/employees, /employee/{id}, /create, /delete/{id})
+ * with a generated dataset, configurable latency, 429/5xx injection and slow body streaming.
+ *
+ * With {@code stub.shardCount} above 1 the stub is one shard of the dataset: it holds only the employees whose
+ * id modulo the shard count is {@code stub.shardIndex}, and assigns new ids that map back to it.
+ *
+ * Run standalone with {@code ./gradlew runStubUpstream -Pstub.port=9090 -Pstub.employees=100000}.
+ */
+public class StubUpstreamServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubUpstreamServer.class);
+
+    private static final String API_PREFIX = "/api/v1";
+    private static final int[] SERVER_ERRORS = {500, 502, 503};
+
+    private final StubUpstreamOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentSkipListMap<Long, Employee> employees = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubUpstreamServer(StubUpstreamOptions options) {
+        this.options = options;
+        for (Employee employee : EmployeeDataset.generate(options.getEmployees(), options.getSeed())) {
+            long id = Long.parseLong(employee.getId());
+            if (isOwnId(id)) {
+                employees.put(id, employee);
+            }
+        }
+        long firstNewId = options.getEmployees() + 1L;
+        while (!isOwnId(firstNewId)) {
+            firstNewId++;
+        }
+        nextId.set(firstNewId);
+    }
+
+    public static void main(String[] args) throws IOException {
+        StubUpstreamOptions options = StubUpstreamOptions.fromSystemProperties();
+        if (System.getProperty("stub.port") == null) {
+            options.setPort(9090);
+        }
+        StubUpstreamServer stub = new StubUpstreamServer(options).start();
+        logger.info("Stub upstream serving {} employees at {}", options.getEmployees(), stub.getBaseUrl());
+    }
+
+    public StubUpstreamServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(options.getHost(), options.getPort()), 0);
+        executor = Executors.newFixedThreadPool(options.getThreads());
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX + "/", this::handle);
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://" + options.getHost() + ":" + server.getAddress().getPort() + API_PREFIX;
+    }
+
+    public StubUpstreamOptions getOptions() {
+        return options;
+    }
+
+    // Number of requests received for an operation such as "GET /employee/{id}"
+    public long getRequestCount(String operation) {
+        LongAdder count = requestCounts.get(operation);
+        return count == null ? 0 : count.sum();
+    }
+
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        requestCounts.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    public int getEmployeeCount() {
+        return employees.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().substring(API_PREFIX.length());
+            requestCounts.computeIfAbsent(operation(method, path), key -> new LongAdder()).increment();
+
+            sleep(options.getLatency().nextMillis(ThreadLocalRandom.current()));
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < options.getError429Rate()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, error("Too Many Requests"));
+                return;
+            }
+            if (roll < options.getError429Rate() + options.getError5xxRate()) {
+                int status = SERVER_ERRORS[ThreadLocalRandom.current().nextInt(SERVER_ERRORS.length)];
+                respond(exchange, status, error("Injected server error"));
+                return;
+            }
+
+            if ("GET".equals(method) && "/employees".equals(path)) {
+                respond(exchange, 200, success(new ArrayList<>(employees.values())));
+            } else if ("GET".equals(method) && path.startsWith("/employee/")) {
+                Employee employee = employees.get(parseId(path));
+                if (employee == null) {
+                    respond(exchange, 404, error("Record not found"));
+                } else {
+                    respond(exchange, 200, success(employee));
+                }
+            } else if ("POST".equals(method) && "/create".equals(path)) {
+                CreateEmployeeRequest request = objectMapper.readValue(exchange.getRequestBody(), CreateEmployeeRequest.class);
+                long id = nextId.getAndAdd(Math.max(1, options.getShardCount()));
+                employees.put(id, new Employee(String.valueOf(id), request.getName(), request.getSalary(), request.getAge(), ""));
+
+                Map<String, Object> created = new LinkedHashMap<>();
+                created.put("name", request.getName());
+                created.put("salary", request.getSalary());
+                created.put("age", request.getAge());
+                created.put("id", id);
+                respond(exchange, 200, success(created));
+            } else if ("DELETE".equals(method) && path.startsWith("/delete/")) {
+                long id = parseId(path);
+                if (employees.remove(id) == null) {
+                    respond(exchange, 404, error("Record not found"));
+                } else {
+                    Map<String, Object> body = success(String.valueOf(id));
+                    body.put("message", "successfully! deleted Record");
+                    respond(exchange, 200, body);
+                }
+            } else {
+                respond(exchange, 404, error("Unknown route " + method + " " + path));
+            }
+        } catch (NumberFormatException e) {
+            respond(exchange, 404, error("Record not found"));
+        } catch (Exception e) {
+            logger.error("Stub upstream failed handling {}: {}", exchange.getRequestURI(), e.getMessage());
+            respond(exchange, 500, error(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Write the body in one go, or in delayed chunks when slow body streaming is enabled
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+
+        int chunkBytes = options.getSlowBodyChunkBytes();
+        long chunkDelay = options.getSlowBodyChunkDelayMillis();
+        if (chunkBytes <= 0 || chunkDelay <= 0) {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+            return;
+        }
+
+        exchange.sendResponseHeaders(status, 0);  // 0 selects chunked transfer encoding
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < bytes.length; offset += chunkBytes) {
+                out.write(bytes, offset, Math.min(chunkBytes, bytes.length - offset));
+                out.flush();
+                sleep(chunkDelay);
+            }
+        }
+    }
+
+    private boolean isOwnId(long id) {
+        return options.getShardCount() <= 1 || Math.floorMod(id, (long) options.getShardCount()) == options.getShardIndex();
+    }
+
+    private static String operation(String method, String path) {
+        if (path.startsWith("/employee/")) {
+            return method + " /employee/{id}";
+        }
+        if (path.startsWith("/delete/")) {
+            return method + " /delete/{id}";
+        }
+        return method + " " + path;
+    }
+
+    private static long parseId(String path) {
+        return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    private static Map<String, Object> success(Object data) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "success");
+        body.put("data", data);
+        return body;
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "error");
+        body.put("message", message);
+        return body;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}